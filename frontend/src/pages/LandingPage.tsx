@@ -7,6 +7,7 @@ import type { Notice } from '@/types';
 import ReactMarkdown from 'react-markdown';
 import remarkGfm from 'remark-gfm';
 import { formatGrade } from '@/utils/format';
+import { sizedImageUrl } from '@/utils/image';
 
 export default function LandingPage() {
   const [labInfo, setLabInfo] = useState<any>(null);
@@ -271,7 +272,7 @@ export default function LandingPage() {
                       <>
                         <div className="aspect-video w-full overflow-hidden bg-gray-100">
                           <img
-                            src={notice.imageUrl}
+                            src={sizedImageUrl(notice.imageUrl, 400)}
                             alt={notice.title}
                             className="w-full h-full object-cover hover:scale-105 transition duration-300"
                           />
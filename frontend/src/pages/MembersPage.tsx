@@ -3,6 +3,7 @@ import { motion } from 'framer-motion';
 import { GraduationCap, Mail, User, Calendar, BookOpen, Award } from 'lucide-react';
 import { useNavigate } from 'react-router-dom';
 import axios from 'axios';
+import { sizedImageUrl } from '@/utils/image';
 
 interface Researcher {
   id: number;
@@ -200,7 +201,7 @@ export default function MembersPage() {
                   <div className="w-32 h-32 mx-auto mb-4 rounded-full bg-gradient-to-br from-blue-600 to-indigo-600 flex items-center justify-center text-white text-4xl font-bold">
                     {member.photoUrl ? (
                       <img
-                        src={member.photoUrl}
+                        src={sizedImageUrl(member.photoUrl, 128)}
                         alt={member.name}
                         className="w-full h-full rounded-full object-cover"
                       />
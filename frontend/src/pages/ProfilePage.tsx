@@ -5,9 +5,12 @@ import { Camera, Save, Loader2, User as UserIcon, Mail, Phone, Award, Plus, X, L
 import { userApi, fileUploadApi, publicApi } from '@/services/api';
 import type { Researcher } from '@/types';
 import { useNavigate } from 'react-router-dom';
+import { useAuthStore } from '@/store/authStore';
 
 export default function ProfilePage() {
   const navigate = useNavigate();
+  const authUser = useAuthStore((state) => state.user);
+  const login = useAuthStore((state) => state.login);
   const [loading, setLoading] = useState(true);
   const [saving, setSaving] = useState(false);
   const [uploading, setUploading] = useState(false);
@@ -185,7 +188,13 @@ export default function ProfilePage() {
 
     try {
       setChangingPassword(true);
-      await userApi.changeMyPassword(currentPassword, newPassword);
+      const token = await userApi.changeMyPassword(currentPassword, newPassword);
+      // The server revoked the old token; keep the session on the fresh one
+      if (authUser) {
+        login({ ...authUser, token });
+      } else {
+        localStorage.setItem('token', token);
+      }
       alert('비밀번호가 성공적으로 변경되었습니다!');
       setShowPasswordModal(false);
       setCurrentPassword('');
@@ -215,8 +215,10 @@ export const userApi = {
   updateMyUsername: async (newUsername: string): Promise<void> => {
     await api.put('/user/account/username', { newUsername });
   },
-  changeMyPassword: async (currentPassword: string, newPassword: string): Promise<void> => {
-    await api.put('/user/account/password', { currentPassword, newPassword });
+  // Returns a fresh token: the password change revokes every token issued before it
+  changeMyPassword: async (currentPassword: string, newPassword: string): Promise<string> => {
+    const response = await api.put<ApiResponse<string>>('/user/account/password', { currentPassword, newPassword });
+    return response.data.data;
   },
 };
 
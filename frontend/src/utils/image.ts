@@ -0,0 +1,9 @@
+// Image utility functions
+
+// Uploaded images (/api/files/...) are served resized with ?size=<px>; other URLs are left as-is
+export const sizedImageUrl = (url: string, size: number): string => {
+  if (!url.startsWith('/api/files/') || url.includes('?')) {
+    return url;
+  }
+  return `${url}?size=${Math.round(size * Math.min(window.devicePixelRatio || 1, 2))}`;
+};
@@ -0,0 +1,115 @@
+package com.lab.management.controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of pushing one file to a loopback socket, as {@link FileServeController} does per download.
+ *
+ * {@code copyThroughHeap} is the {@code resource} serve mode (the resource message converter's
+ * {@link StreamUtils#copy} loop); {@code transferTo} is what Tomcat's sendfile does for the
+ * {@code sendfile} mode. Run with {@code -prof gc} to compare heap churn
+ * ({@code gc.alloc.rate.norm}); the default size is the 1GB case, use {@code -p sizeBytes=...}
+ * for a quicker run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FileServeBenchmark {
+
+    @Param("1073741824")
+    private long sizeBytes;
+
+    private Path file;
+    private ServerSocketChannel server;
+    private SocketChannel client;
+    private Thread drain;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("file-serve-benchmark", ".bin");
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            byte[] block = new byte[1 << 20];
+            for (int i = 0; i < block.length; i++) {
+                block[i] = (byte) i;
+            }
+            for (long written = 0; written < sizeBytes; written += block.length) {
+                raf.write(block, 0, (int) Math.min(block.length, sizeBytes - written));
+            }
+        }
+
+        server = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        client = SocketChannel.open(server.getLocalAddress());
+        SocketChannel peer = server.accept();
+        drain = new Thread(() -> {
+            ByteBuffer sink = ByteBuffer.allocateDirect(1 << 20);
+            try {
+                while (peer.read(sink) >= 0) {
+                    sink.clear();
+                }
+            } catch (IOException ignored) {
+                // socket closed at tear-down
+            }
+        }, "file-serve-benchmark-drain");
+        drain.setDaemon(true);
+        drain.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        client.close();
+        server.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long copyThroughHeap() throws IOException {
+        OutputStream out = Channels.newOutputStream(client);
+        try (InputStream in = Files.newInputStream(file)) {
+            return StreamUtils.copy(in, out);
+        }
+    }
+
+    @Benchmark
+    public long transferTo() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = 0;
+            long size = channel.size();
+            while (position < size) {
+                position += channel.transferTo(position, size - position, client);
+            }
+            return position;
+        }
+    }
+}
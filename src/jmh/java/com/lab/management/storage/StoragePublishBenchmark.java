@@ -0,0 +1,76 @@
+package com.lab.management.storage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency distribution of one upload (stage + publish) through {@link LocalStorageEngine} while
+ * eight uploads run concurrently, per durability mode. Sample mode reports p50/p99/max, which is
+ * what {@code file.storage.durability} trades against crash safety; run against the disk the
+ * upload directory lives on ({@code -jvmArgs -Djava.io.tmpdir=...}) and raise
+ * {@code -p sizeBytes=...} to see the effect of {@code sync-every} on large uploads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Threads(8)
+@Fork(1)
+public class StoragePublishBenchmark {
+
+    @Param({"NONE", "FILE", "GROUP"})
+    private LocalStorageEngine.Durability durability;
+
+    @Param("1048576")
+    private int sizeBytes;
+
+    private Path uploadDir;
+    private LocalStorageEngine engine;
+    private byte[] data;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        uploadDir = Files.createTempDirectory("storage-publish-benchmark");
+        engine = new LocalStorageEngine(uploadDir.toString(), durability, DataSize.ofMegabytes(8));
+        data = new byte[sizeBytes];
+        ThreadLocalRandom.current().nextBytes(data);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        engine.destroy();
+        FileSystemUtils.deleteRecursively(uploadDir);
+    }
+
+    @Benchmark
+    public long stageAndPublish() throws IOException {
+        StagedBlob blob = engine.stage(new ByteArrayInputStream(data), data.length);
+        String name = UUID.randomUUID() + ".bin";
+        engine.publish(blob, name);
+        engine.delete(name);
+        return blob.getSize();
+    }
+}
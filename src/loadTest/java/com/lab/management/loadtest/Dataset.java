@@ -0,0 +1,20 @@
+package com.lab.management.loadtest;
+
+import java.util.List;
+
+/**
+ * What {@link DatasetSeeder} created, for the scenarios to pick targets from.
+ *
+ * @param accounts         researcher logins, each a member of one project
+ * @param adminUsername    the admin login used for uploads
+ * @param password         shared password of all seeded logins
+ * @param boardIds         public board posts
+ * @param searchKeywords   words that occur in board titles and contents
+ * @param attachmentUrls   files attached to board posts ({@code /api/files/...})
+ */
+public record Dataset(List<Account> accounts, String adminUsername, String password, List<Long> boardIds,
+                      List<String> searchKeywords, List<String> attachmentUrls) {
+
+    public record Account(String username, Long projectId) {
+    }
+}
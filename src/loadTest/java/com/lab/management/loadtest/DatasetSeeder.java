@@ -0,0 +1,247 @@
+package com.lab.management.loadtest;
+
+import com.lab.management.entity.Board;
+import com.lab.management.entity.BoardComment;
+import com.lab.management.entity.Grade;
+import com.lab.management.entity.LabInfo;
+import com.lab.management.entity.Notice;
+import com.lab.management.entity.Priority;
+import com.lab.management.entity.Project;
+import com.lab.management.entity.ProjectStatus;
+import com.lab.management.entity.Researcher;
+import com.lab.management.entity.ResearcherStatus;
+import com.lab.management.entity.Role;
+import com.lab.management.entity.Task;
+import com.lab.management.entity.TaskStatus;
+import com.lab.management.entity.User;
+import com.lab.management.repository.BoardCommentRepository;
+import com.lab.management.repository.BoardRepository;
+import com.lab.management.repository.LabInfoRepository;
+import com.lab.management.repository.NoticeRepository;
+import com.lab.management.repository.ProjectRepository;
+import com.lab.management.repository.ResearcherRepository;
+import com.lab.management.repository.TaskRepository;
+import com.lab.management.repository.UserRepository;
+import com.lab.management.service.FileStorageService;
+import com.lab.management.service.SearchIndexService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds the booted application with a lab-sized dataset through its own repositories.
+ *
+ * The shape follows a busy lab rather than an empty install: dozens of researchers spread over
+ * projects with full kanban boards, thousands of board posts with comments and attachments, and a
+ * year of notices. Generation is seeded, so two runs with the same options see the same data. The
+ * search index is rebuilt at the end, since rows saved directly skip the indexing events.
+ */
+public class DatasetSeeder {
+
+    public static final String PASSWORD = "load-test-password";
+
+    private static final String ADMIN_USERNAME = "load-admin";
+    private static final int RESEARCHERS_PER_PROJECT = 5;
+    private static final int TASKS_PER_PROJECT = 30;
+    private static final int NOTICES = 100;
+    private static final int ATTACHMENTS = 20;
+    private static final int BATCH_SIZE = 500;
+
+    private static final List<String> KEYWORDS = List.of(
+            "세미나", "논문", "딥러닝", "영상", "데이터", "실험", "학회", "CT", "LLM", "segmentation");
+
+    private final ApplicationContext context;
+    private final TransactionTemplate transactionTemplate;
+    private final Random random = new Random(42);
+
+    public DatasetSeeder(ApplicationContext context) {
+        this.context = context;
+        this.transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    public Dataset seed(int researcherCount, int boardCount) throws IOException {
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        seedLabInfo();
+        List<Researcher> researchers = seedResearchers(researcherCount, passwordHash);
+        seedAdmin(passwordHash);
+        List<Dataset.Account> accounts = seedProjects(researchers);
+        List<String> attachmentUrls = seedAttachments();
+        List<Long> boardIds = seedBoards(researchers, boardCount, attachmentUrls);
+        seedNotices(researchers);
+        context.getBean(SearchIndexService.class).reindexAll();
+
+        return new Dataset(accounts, ADMIN_USERNAME, PASSWORD, boardIds, KEYWORDS, attachmentUrls);
+    }
+
+    private void seedLabInfo() {
+        LabInfoRepository labInfoRepository = context.getBean(LabInfoRepository.class);
+        if (labInfoRepository.count() == 0) {
+            labInfoRepository.save(LabInfo.builder()
+                    .name("Medical Imaging Lab")
+                    .university("Load Test University")
+                    .department("Computer Science")
+                    .professor("Load Test")
+                    .email("lab@load.test")
+                    .introduction(sentence(40))
+                    .researchFocus(sentence(20))
+                    .build());
+        }
+    }
+
+    private List<Researcher> seedResearchers(int count, String passwordHash) {
+        ResearcherRepository researcherRepository = context.getBean(ResearcherRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        return transactionTemplate.execute(status -> {
+            List<Researcher> researchers = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                Researcher researcher = researcherRepository.save(Researcher.builder()
+                        .name("연구원 " + i)
+                        .studentId(String.format("LOAD%04d", i))
+                        .grade(Grade.values()[i % Grade.values().length])
+                        .admissionYear(2018 + i % 8)
+                        .email("researcher" + i + "@load.test")
+                        .status(ResearcherStatus.ACTIVE)
+                        .joinDate(LocalDate.now().minusDays(random.nextInt(1500)))
+                        .researchAreas(new ArrayList<>(List.of(KEYWORDS.get(i % KEYWORDS.size()))))
+                        .build());
+                userRepository.save(User.builder()
+                        .username(usernameOf(i))
+                        .password(passwordHash)
+                        .role(Role.RESEARCHER)
+                        .researcher(researcher)
+                        .build());
+                researchers.add(researcher);
+            }
+            return researchers;
+        });
+    }
+
+    private void seedAdmin(String passwordHash) {
+        context.getBean(UserRepository.class).save(User.builder()
+                .username(ADMIN_USERNAME)
+                .password(passwordHash)
+                .role(Role.ADMIN)
+                .build());
+    }
+
+    // 연구원 5명당 프로젝트 하나, 프로젝트마다 팀원에게 배정된 태스크 30개
+    private List<Dataset.Account> seedProjects(List<Researcher> researchers) {
+        ProjectRepository projectRepository = context.getBean(ProjectRepository.class);
+        TaskRepository taskRepository = context.getBean(TaskRepository.class);
+        return transactionTemplate.execute(status -> {
+            List<Dataset.Account> accounts = new ArrayList<>();
+            for (int from = 0; from < researchers.size(); from += RESEARCHERS_PER_PROJECT) {
+                List<Researcher> team = researchers.subList(from, Math.min(researchers.size(), from + RESEARCHERS_PER_PROJECT));
+                Project project = projectRepository.save(Project.builder()
+                        .name("Project " + (from / RESEARCHERS_PER_PROJECT) + " " + KEYWORDS.get(random.nextInt(KEYWORDS.size())))
+                        .description(sentence(30))
+                        .status(ProjectStatus.IN_PROGRESS)
+                        .priority(Priority.values()[random.nextInt(Priority.values().length)])
+                        .progress(random.nextInt(100))
+                        .startDate(LocalDate.now().minusDays(random.nextInt(365)))
+                        .researchers(new ArrayList<>(team))
+                        .build());
+                for (int t = 0; t < TASKS_PER_PROJECT; t++) {
+                    taskRepository.save(Task.builder()
+                            .name("Task " + t + " " + KEYWORDS.get(random.nextInt(KEYWORDS.size())))
+                            .description(sentence(15))
+                            .status(TaskStatus.values()[random.nextInt(TaskStatus.values().length)])
+                            .priority(Priority.values()[random.nextInt(Priority.values().length)])
+                            .dueDate(LocalDate.now().plusDays(random.nextInt(90)))
+                            .estimatedHours(1 + random.nextInt(40))
+                            .project(project)
+                            .assignees(new ArrayList<>(List.of(team.get(t % team.size()))))
+                            .build());
+                }
+                for (int i = from; i < from + team.size(); i++) {
+                    accounts.add(new Dataset.Account(usernameOf(i), project.getId()));
+                }
+            }
+            return accounts;
+        });
+    }
+
+    private List<String> seedAttachments() throws IOException {
+        FileStorageService fileStorageService = context.getBean(FileStorageService.class);
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < ATTACHMENTS; i++) {
+            byte[] content = new byte[64 * 1024 + random.nextInt(512 * 1024)];
+            random.nextBytes(content);
+            urls.add(fileStorageService.storeStream(new ByteArrayInputStream(content), "attachment-" + i + ".pdf", content.length));
+        }
+        return urls;
+    }
+
+    // 게시글 (일부는 첨부 파일 포함) 과 댓글을 배치 단위 트랜잭션으로 저장
+    private List<Long> seedBoards(List<Researcher> researchers, int count, List<String> attachmentUrls) {
+        BoardRepository boardRepository = context.getBean(BoardRepository.class);
+        BoardCommentRepository boardCommentRepository = context.getBean(BoardCommentRepository.class);
+        List<Long> boardIds = new ArrayList<>();
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            int to = Math.min(count, from + BATCH_SIZE);
+            int offset = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = offset; i < to; i++) {
+                    int comments = random.nextInt(7);
+                    boolean attached = random.nextInt(5) == 0;
+                    Board board = boardRepository.save(Board.builder()
+                            .title(KEYWORDS.get(random.nextInt(KEYWORDS.size())) + " " + sentence(4) + " #" + i)
+                            .content(sentence(150 + random.nextInt(300)))
+                            .isPublic(true)
+                            .attachmentUrl(attached ? attachmentUrls.get(random.nextInt(attachmentUrls.size())) : null)
+                            .attachmentName(attached ? "slides.pdf" : null)
+                            .author(researchers.get(random.nextInt(researchers.size())))
+                            .viewCount(random.nextInt(500))
+                            .commentCount(comments)
+                            .build());
+                    for (int c = 0; c < comments; c++) {
+                        boardCommentRepository.save(BoardComment.builder()
+                                .content(sentence(12))
+                                .author(researchers.get(random.nextInt(researchers.size())))
+                                .board(board)
+                                .build());
+                    }
+                    boardIds.add(board.getId());
+                }
+            });
+        }
+        return boardIds;
+    }
+
+    private void seedNotices(List<Researcher> researchers) {
+        NoticeRepository noticeRepository = context.getBean(NoticeRepository.class);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < NOTICES; i++) {
+                Notice notice = new Notice();
+                notice.setTitle("공지 " + i + " " + KEYWORDS.get(random.nextInt(KEYWORDS.size())));
+                notice.setContent(sentence(80));
+                notice.setIsPublic(i % 4 != 0);
+                notice.setAuthor(researchers.get(random.nextInt(researchers.size())));
+                noticeRepository.save(notice);
+            }
+        });
+    }
+
+    private String sentence(int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(i % 12 == 0 ? ".\n" : " ");
+            }
+            text.append(KEYWORDS.get(random.nextInt(KEYWORDS.size())));
+        }
+        return text.toString();
+    }
+
+    static String usernameOf(int index) {
+        return String.format("load-r%03d", index);
+    }
+}
@@ -0,0 +1,132 @@
+package com.lab.management.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram in microseconds.
+ *
+ * Buckets are log-linear: 16 linear sub-buckets per power of two, so every recorded value is
+ * reported within 6.25% of its true value from 1µs up to hours, in a fixed 8KB array. Recording
+ * is one atomic increment, cheap enough to call from every client thread on every request.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+    /** Upper edges (ms) of the bars printed by {@link #render}. */
+    private static final long[] DISPLAY_EDGES_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+    private static final int BAR_WIDTH = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong sumMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void record(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(indexOf(value));
+        total.incrementAndGet();
+        sumMicros.addAndGet(value);
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        total.addAndGet(other.total.get());
+        sumMicros.addAndGet(other.sumMicros.get());
+        maxMicros.accumulateAndGet(other.maxMicros.get(), Math::max);
+    }
+
+    public long count() {
+        return total.get();
+    }
+
+    public double meanMillis() {
+        long n = total.get();
+        return n == 0 ? 0 : sumMicros.get() / 1000.0 / n;
+    }
+
+    public double maxMillis() {
+        return maxMicros.get() / 1000.0;
+    }
+
+    // 누적 개수가 p 비율에 처음 도달하는 버킷의 상한값 (ms)
+    public double percentileMillis(double percentile) {
+        long n = total.get();
+        if (n == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(upperBoundOf(i), maxMicros.get()) / 1000.0;
+            }
+        }
+        return maxMillis();
+    }
+
+    // 구간별 분포를 막대 그래프로 출력
+    public String render() {
+        long[] bins = new long[DISPLAY_EDGES_MS.length + 1];
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = counts.get(i);
+            if (count > 0) {
+                bins[displayBinOf(upperBoundOf(i))] += count;
+            }
+        }
+        long largest = 1;
+        for (long bin : bins) {
+            largest = Math.max(largest, bin);
+        }
+
+        StringBuilder out = new StringBuilder();
+        long n = Math.max(1, total.get());
+        for (int bin = 0; bin < bins.length; bin++) {
+            String label = bin < DISPLAY_EDGES_MS.length
+                    ? "<= " + DISPLAY_EDGES_MS[bin] + "ms"
+                    : " > " + DISPLAY_EDGES_MS[DISPLAY_EDGES_MS.length - 1] + "ms";
+            int width = (int) Math.round((double) bins[bin] / largest * BAR_WIDTH);
+            out.append(String.format("    %10s | %-" + BAR_WIDTH + "s %8d (%5.1f%%)%n",
+                    label, "#".repeat(width), bins[bin], 100.0 * bins[bin] / n));
+        }
+        return out.toString();
+    }
+
+    static int indexOf(long micros) {
+        if (micros < 2 * SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return Math.min(BUCKETS - 1, (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket);
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (SUB_BUCKETS + subBucket) * width + width - 1;
+    }
+
+    private static int displayBinOf(long micros) {
+        for (int bin = 0; bin < DISPLAY_EDGES_MS.length; bin++) {
+            if (micros <= DISPLAY_EDGES_MS[bin] * 1000) {
+                return bin;
+            }
+        }
+        return DISPLAY_EDGES_MS.length;
+    }
+}
@@ -0,0 +1,167 @@
+package com.lab.management.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HTTP client shared by all simulated users, recording one latency sample per named request.
+ *
+ * Requests are timed from send to fully read body. Anything that is not 2xx/304, or that fails
+ * with an I/O error or timeout, counts as an error for that request name. Samples are only kept
+ * while {@link #setRecording recording} is on, so warm-up traffic does not reach the report.
+ */
+public class LoadClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Map<String, RequestStats> stats = new ConcurrentSkipListMap<>();
+    private final Map<String, AtomicLong> errorSamples = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    public LoadClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+
+    public Map<String, RequestStats> stats() {
+        return stats;
+    }
+
+    public Map<String, AtomicLong> errorSamples() {
+        return errorSamples;
+    }
+
+    public HttpResponse<byte[]> get(String name, String path, String token) {
+        return send(name, request(path, token).GET().build());
+    }
+
+    public HttpResponse<byte[]> putJson(String name, String path, String token, Object body) {
+        return send(name, request(path, token)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(toJson(body)))
+                .build());
+    }
+
+    public HttpResponse<byte[]> postJson(String name, String path, String token, Object body) {
+        return send(name, request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(body)))
+                .build());
+    }
+
+    public HttpResponse<byte[]> postFile(String name, String path, String token, String filename, byte[] content) {
+        String boundary = "----load-test-" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(content.length + 256);
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + filename + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return send(name, request(path, token)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build());
+    }
+
+    // 요청 하나를 보내고 본문까지 읽는 시간을 기록, I/O 오류는 null 반환
+    public HttpResponse<byte[]> send(String name, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            int status = response.statusCode();
+            boolean ok = (status >= 200 && status < 300) || status == 304;
+            record(name, start, ok, ok ? null : "HTTP " + status);
+            return ok ? response : null;
+        } catch (IOException e) {
+            record(name, start, false, e.getClass().getSimpleName());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    // 시나리오 준비 단계에서 로그인해 JWT 획득
+    public String login(String username, String password) {
+        HttpResponse<byte[]> response = postJson("auth.login", "/api/auth/login", null,
+                Map.of("username", username, "password", password));
+        if (response == null) {
+            throw new IllegalStateException("Login failed for " + username);
+        }
+        return json(response).path("data").path("token").asText();
+    }
+
+    public static JsonNode json(HttpResponse<byte[]> response) {
+        try {
+            return MAPPER.readTree(response.body());
+        } catch (IOException e) {
+            throw new IllegalStateException("Response is not JSON", e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private void record(String name, long startNanos, boolean ok, String error) {
+        if (!recording) {
+            return;
+        }
+        RequestStats requestStats = stats.computeIfAbsent(name, key -> new RequestStats());
+        requestStats.histogram.record((System.nanoTime() - startNanos) / 1000);
+        if (!ok) {
+            requestStats.errors.incrementAndGet();
+            errorSamples.computeIfAbsent(name + ": " + error, key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    private static byte[] toJson(Object body) {
+        try {
+            return MAPPER.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+
+    public static class RequestStats {
+
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final AtomicLong errors = new AtomicLong();
+
+        public LatencyHistogram histogram() {
+            return histogram;
+        }
+
+        public long errors() {
+            return errors.get();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.lab.management.loadtest;
+
+import com.lab.management.loadtest.scenario.Scenario;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Plain-text report of a run: per-request latency table, a histogram per scenario and the
+ * threshold verdict. A scenario passes when its p99 over all of its requests and its error rate
+ * are both within the thresholds; the run passes when every scenario does.
+ */
+public class LoadReport {
+
+    private static final String ROW = "  %-24s %9s %9s %7s %9s %9s %9s %9s %9s %9s%n";
+
+    private final StringBuilder text = new StringBuilder();
+    private boolean passed = true;
+
+    public LoadReport(String header, List<Scenario> scenarios, Map<String, Integer> usersPerScenario,
+                      LoadClient client, LoadTestOptions options, Duration elapsed) {
+        double seconds = Math.max(0.001, elapsed.toNanos() / 1e9);
+        text.append(header);
+
+        for (Scenario scenario : scenarios) {
+            LatencyHistogram combined = new LatencyHistogram();
+            long errors = 0;
+            text.append(String.format("%n== %s (%d users)%n", scenario.name(), usersPerScenario.get(scenario.name())));
+            text.append(String.format(ROW, "request", "count", "req/s", "errors", "mean ms", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+            for (Map.Entry<String, LoadClient.RequestStats> entry : client.stats().entrySet()) {
+                if (!entry.getKey().startsWith(scenario.name() + ".")) {
+                    continue;
+                }
+                LatencyHistogram histogram = entry.getValue().histogram();
+                combined.add(histogram);
+                errors += entry.getValue().errors();
+                appendRow(entry.getKey(), histogram, entry.getValue().errors(), seconds);
+            }
+            appendRow("(all)", combined, errors, seconds);
+            text.append(combined.render());
+
+            Duration p99Threshold = options.p99Threshold(scenario.name(), scenario.defaultP99());
+            double p99 = combined.percentileMillis(99);
+            double errorRate = combined.count() == 0 ? 1 : (double) errors / combined.count();
+            boolean scenarioPassed = combined.count() > 0 && p99 <= p99Threshold.toMillis()
+                    && errorRate <= options.maxErrorRate();
+            passed &= scenarioPassed;
+            text.append(String.format("  %s: p99 %.1fms (limit %dms), error rate %.2f%% (limit %.2f%%)%n",
+                    scenarioPassed ? "PASS" : "FAIL", p99, p99Threshold.toMillis(),
+                    errorRate * 100, options.maxErrorRate() * 100));
+        }
+
+        if (!client.errorSamples().isEmpty()) {
+            text.append(String.format("%n== errors%n"));
+            for (Map.Entry<String, AtomicLong> entry : client.errorSamples().entrySet()) {
+                text.append(String.format("  %8d  %s%n", entry.getValue().get(), entry.getKey()));
+            }
+        }
+        text.append(String.format("%nRESULT: %s%n", passed ? "PASS" : "FAIL"));
+    }
+
+    public boolean passed() {
+        return passed;
+    }
+
+    public String text() {
+        return text.toString();
+    }
+
+    private void appendRow(String name, LatencyHistogram histogram, long errors, double seconds) {
+        text.append(String.format(ROW, name, histogram.count(), String.format("%.1f", histogram.count() / seconds),
+                errors, ms(histogram.meanMillis()), ms(histogram.percentileMillis(50)), ms(histogram.percentileMillis(90)),
+                ms(histogram.percentileMillis(99)), ms(histogram.percentileMillis(99.9)), ms(histogram.maxMillis())));
+    }
+
+    private static String ms(double millis) {
+        return String.format("%.1f", millis);
+    }
+}
@@ -0,0 +1,216 @@
+package com.lab.management.loadtest;
+
+import com.lab.management.LabManagementApplication;
+import com.lab.management.loadtest.scenario.BoardBrowseScenario;
+import com.lab.management.loadtest.scenario.FileTransferScenario;
+import com.lab.management.loadtest.scenario.KanbanDragScenario;
+import com.lab.management.loadtest.scenario.PublicHomepageScenario;
+import com.lab.management.loadtest.scenario.Scenario;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Load-test driver: boots the application in-process on the dev profile (H2, temporary upload
+ * directory, random port), seeds it with {@link DatasetSeeder} and runs the selected scenarios
+ * together as a closed workload of simulated users over the JDK HTTP client.
+ *
+ * Each user loops over its scenario with no think time unless one is given, so the clients
+ * setting is the concurrency the server sees. After the warm-up, every request is recorded for
+ * the measured duration and the report (see {@link LoadReport}) is printed and written to the
+ * report directory. The process exits with 1 if any threshold fails, which fails the Gradle task.
+ * Compare runtime setups by passing application options, e.g.
+ * {@code ./gradlew loadTest -PloadTestArgs='--clients=2000 --spring.profiles.active=dev,virtual'}.
+ *
+ * The simulated users run in the server's JVM, so they share its CPU, heap and GC. On Java 21+
+ * they are virtual threads in both modes, so thousands of clients do not add thousands of platform
+ * threads to the server's scheduling. The load is still not isolated: absolute numbers include
+ * the client's own cost, and a platform vs virtual comparison is only meaningful as a relative
+ * one between runs on the same machine. The report header states this.
+ */
+public class LoadTest {
+
+    private static final Map<String, Supplier<Scenario>> SCENARIOS = Map.of(
+            "homepage", PublicHomepageScenario::new,
+            "boards", BoardBrowseScenario::new,
+            "kanban", KanbanDragScenario::new,
+            "files", FileTransferScenario::new);
+
+    private static final Duration SHUTDOWN_GRACE = Duration.ofSeconds(35);
+    private static final boolean VIRTUAL_CLIENTS = Runtime.version().feature() >= 21;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String name : options.scenarios()) {
+            Supplier<Scenario> scenario = SCENARIOS.get(name.trim());
+            if (scenario == null) {
+                throw new IllegalArgumentException("Unknown scenario '" + name + "', expected one of " + SCENARIOS.keySet());
+            }
+            scenarios.add(scenario.get());
+        }
+
+        Path uploadDir = Files.createTempDirectory("load-test-uploads");
+        boolean passed;
+        try (ConfigurableApplicationContext context = new SpringApplication(LabManagementApplication.class)
+                .run(applicationArgs(options, uploadDir))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            log("Application started on port %d, seeding %d researchers and %d boards",
+                    port, options.researchers(), options.boards());
+            Dataset dataset = new DatasetSeeder(context).seed(options.researchers(), options.boards());
+
+            LoadClient client = new LoadClient("http://localhost:" + port);
+            for (Scenario scenario : scenarios) {
+                scenario.prepare(client, dataset);
+            }
+            Map<String, Integer> users = allocateUsers(scenarios, options.clients());
+            log("Running %s with %s users: %ss warm-up, %ss measured",
+                    users.keySet(), users.values(), options.warmup().toSeconds(), options.duration().toSeconds());
+
+            Duration elapsed = run(scenarios, users, client, options);
+
+            String header = String.format("Load test %s%n  java %s, profiles %s, virtual threads %s%n"
+                            + "  %d clients, %ds measured after %ds warm-up, %d researchers, %d boards%n"
+                            + "  clients run as %s threads in the server's JVM (shared CPU, heap and GC):"
+                            + " compare runs relative to each other on the same machine only%n",
+                    LocalDateTime.now().withNano(0), Runtime.version(),
+                    String.join(",", context.getEnvironment().getActiveProfiles()),
+                    virtualThreads(context) ? "on" : "off",
+                    options.clients(), options.duration().toSeconds(), options.warmup().toSeconds(),
+                    options.researchers(), options.boards(),
+                    VIRTUAL_CLIENTS ? "virtual" : "platform");
+            LoadReport report = new LoadReport(header, scenarios, users, client, options, elapsed);
+            passed = report.passed();
+
+            System.out.print(report.text());
+            Files.createDirectories(options.reportDir());
+            Path reportFile = options.reportDir().resolve("report.txt");
+            Files.writeString(reportFile, report.text(), StandardCharsets.UTF_8);
+            log("Report written to %s", reportFile.toAbsolutePath());
+        } finally {
+            FileSystemUtils.deleteRecursively(uploadDir);
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    // 사용자 스레드를 띄우고 워밍업 후 측정 구간만 기록, 측정 시간 반환
+    private static Duration run(List<Scenario> scenarios, Map<String, Integer> users, LoadClient client,
+                                LoadTestOptions options) throws InterruptedException {
+        AtomicLong failures = new AtomicLong();
+        List<Thread> threads = new ArrayList<>();
+        AtomicBoolean stop = new AtomicBoolean();
+        long thinkMillis = options.thinkTime().toMillis();
+
+        for (Scenario scenario : scenarios) {
+            for (int user = 0; user < users.get(scenario.name()); user++) {
+                int userIndex = user;
+                Thread thread = userThread("load-" + scenario.name() + "-" + user, () -> {
+                    Random random = new Random(scenario.name().hashCode() * 31L + userIndex);
+                    while (!stop.get()) {
+                        try {
+                            scenario.iterate(client, userIndex, random);
+                            if (thinkMillis > 0) {
+                                Thread.sleep(thinkMillis);
+                            }
+                        } catch (InterruptedException e) {
+                            return;
+                        } catch (RuntimeException e) {
+                            if (failures.getAndIncrement() == 0) {
+                                e.printStackTrace();
+                            }
+                        }
+                    }
+                });
+                threads.add(thread);
+            }
+        }
+        threads.forEach(Thread::start);
+
+        Thread.sleep(options.warmup().toMillis());
+        client.setRecording(true);
+        long start = System.nanoTime();
+        Thread.sleep(options.duration().toMillis());
+        client.setRecording(false);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        stop.set(true);
+        long deadline = System.nanoTime() + SHUTDOWN_GRACE.toNanos();
+        for (Thread thread : threads) {
+            thread.join(Math.max(1, (deadline - System.nanoTime()) / 1_000_000));
+        }
+        if (failures.get() > 0) {
+            log("%d scenario iterations failed with an exception (first one printed above)", failures.get());
+        }
+        return elapsed;
+    }
+
+    // 가중치 비율로 사용자 수 배분 (시나리오마다 최소 1명)
+    private static Map<String, Integer> allocateUsers(List<Scenario> scenarios, int clients) {
+        int totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+        Map<String, Integer> users = new LinkedHashMap<>();
+        for (Scenario scenario : scenarios) {
+            users.put(scenario.name(), Math.max(1, Math.round((float) clients * scenario.weight() / totalWeight)));
+        }
+        return users;
+    }
+
+    private static String[] applicationArgs(LoadTestOptions options, Path uploadDir) {
+        Map<String, String> args = new LinkedHashMap<>();
+        args.put("spring.profiles.active", "dev");
+        args.put("server.port", "0");
+        args.put("file.upload-dir", uploadDir.toString());
+        args.put("file.storage.migration.enabled", "false");
+        args.put("spring.jpa.show-sql", "false");
+        args.put("spring.h2.console.enabled", "false");
+        args.put("logging.level.root", "WARN");
+        args.put("logging.level.com.lab.management", "WARN");
+        args.put("logging.level.org.hibernate.SQL", "WARN");
+        args.put("logging.level.org.springframework.security", "WARN");
+        for (String arg : options.applicationArgs()) {
+            args.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return args.entrySet().stream().map(entry -> "--" + entry.getKey() + "=" + entry.getValue()).toArray(String[]::new);
+    }
+
+    // Java 21+에서는 가상 스레드 (서버 JVM에 플랫폼 스레드 수천 개를 더하지 않도록), 그 외에는 데몬 플랫폼 스레드
+    // 빌드가 release 17이라 Thread.ofVirtual()은 리플렉션으로 호출
+    private static Thread userThread(String name, Runnable task) {
+        if (VIRTUAL_CLIENTS) {
+            try {
+                Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+                Object builder = builderType.getMethod("name", String.class)
+                        .invoke(Thread.class.getMethod("ofVirtual").invoke(null), name);
+                return (Thread) builderType.getMethod("unstarted", Runnable.class).invoke(builder, task);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not create a virtual thread", e);
+            }
+        }
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static boolean virtualThreads(ConfigurableApplicationContext context) {
+        return Runtime.version().feature() >= 21
+                && context.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf("[load-test] " + format + "%n", args);
+    }
+}
@@ -0,0 +1,119 @@
+package com.lab.management.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command-line options of {@link LoadTest} ({@code --name=value}).
+ *
+ * <pre>
+ *   --scenarios=homepage,boards,kanban,files  scenarios to run together (default: all)
+ *   --clients=200                             simulated users, split across scenarios by weight
+ *   --duration=60s --warmup=15s               measured run, preceded by an unrecorded warm-up
+ *   --think-time=0ms                          pause between a user's iterations
+ *   --researchers=60 --boards=3000            dataset size (see DatasetSeeder)
+ *   --p99.&lt;scenario&gt;=250ms                    p99 threshold per scenario
+ *   --max-error-rate=0.01                     error-rate threshold for every scenario
+ *   --report-dir=build/reports/load-test      where report.txt is written
+ * </pre>
+ *
+ * Any other option is passed to the application, e.g. {@code --spring.profiles.active=dev,virtual}
+ * or {@code --server.tomcat.threads.max=400}.
+ */
+public class LoadTestOptions {
+
+    private final Map<String, String> values = new LinkedHashMap<>();
+    private final List<String> applicationArgs = new ArrayList<>();
+
+    private LoadTestOptions() {
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (isHarnessOption(name)) {
+                options.values.put(name, value);
+            } else {
+                options.applicationArgs.add(arg);
+            }
+        }
+        return options;
+    }
+
+    public List<String> scenarios() {
+        return List.of(string("scenarios", "homepage,boards,kanban,files").split(","));
+    }
+
+    public int clients() {
+        return integer("clients", 200);
+    }
+
+    public Duration duration() {
+        return duration("duration", "60s");
+    }
+
+    public Duration warmup() {
+        return duration("warmup", "15s");
+    }
+
+    public Duration thinkTime() {
+        return duration("think-time", "0ms");
+    }
+
+    public int researchers() {
+        return integer("researchers", 60);
+    }
+
+    public int boards() {
+        return integer("boards", 3000);
+    }
+
+    public Duration p99Threshold(String scenario, Duration defaultValue) {
+        String value = values.get("p99." + scenario);
+        return value == null ? defaultValue : DurationStyle.detectAndParse(value);
+    }
+
+    public double maxErrorRate() {
+        return Double.parseDouble(string("max-error-rate", "0.01"));
+    }
+
+    public Path reportDir() {
+        return Paths.get(string("report-dir", "build/reports/load-test"));
+    }
+
+    public List<String> applicationArgs() {
+        return applicationArgs;
+    }
+
+    private static boolean isHarnessOption(String name) {
+        return name.startsWith("p99.") || List.of("scenarios", "clients", "duration", "warmup", "think-time",
+                "researchers", "boards", "max-error-rate", "report-dir").contains(name);
+    }
+
+    private String string(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    private int integer(String name, int defaultValue) {
+        return values.containsKey(name) ? Integer.parseInt(values.get(name)) : defaultValue;
+    }
+
+    private Duration duration(String name, String defaultValue) {
+        return DurationStyle.detectAndParse(string(name, defaultValue));
+    }
+}
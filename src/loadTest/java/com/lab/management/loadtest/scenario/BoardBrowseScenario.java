@@ -0,0 +1,57 @@
+package com.lab.management.loadtest.scenario;
+
+import com.lab.management.loadtest.Dataset;
+import com.lab.management.loadtest.LoadClient;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reader paging through the public board: a list page (mostly the first few), one post with its
+ * comments, and now and then a keyword search.
+ */
+public class BoardBrowseScenario implements Scenario {
+
+    private List<Long> boardIds;
+    private List<String> keywords;
+
+    @Override
+    public String name() {
+        return "boards";
+    }
+
+    @Override
+    public int weight() {
+        return 30;
+    }
+
+    @Override
+    public Duration defaultP99() {
+        return Duration.ofMillis(400);
+    }
+
+    @Override
+    public void prepare(LoadClient client, Dataset dataset) {
+        boardIds = dataset.boardIds();
+        keywords = dataset.searchKeywords();
+    }
+
+    @Override
+    public void iterate(LoadClient client, int user, Random random) {
+        // 앞쪽 페이지에 조회가 몰리도록 (0페이지가 가장 많음)
+        int page = (int) Math.min(50, Math.abs(random.nextGaussian()) * 3);
+        client.get("boards.list", "/api/public/boards?page=" + page + "&size=10", null);
+
+        long boardId = boardIds.get(random.nextInt(boardIds.size()));
+        client.get("boards.view", "/api/public/boards/" + boardId, null);
+        client.get("boards.comments", "/api/public/boards/" + boardId + "/comments", null);
+
+        if (random.nextInt(4) == 0) {
+            String keyword = URLEncoder.encode(keywords.get(random.nextInt(keywords.size())), StandardCharsets.UTF_8);
+            client.get("boards.search", "/api/public/boards/search?keyword=" + keyword + "&page=0&size=10", null);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.lab.management.loadtest.scenario;
+
+import com.lab.management.loadtest.Dataset;
+import com.lab.management.loadtest.LoadClient;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Attachments: an admin uploads a file and opens it, and readers download the attachments of
+ * existing posts. One upload in four repeats an earlier file, which exercises the deduplicating
+ * path of the content-addressed store.
+ */
+public class FileTransferScenario implements Scenario {
+
+    private static final int MIN_UPLOAD_BYTES = 32 * 1024;
+    private static final int MAX_UPLOAD_BYTES = 1024 * 1024;
+    private static final int DOWNLOADS_PER_UPLOAD = 4;
+
+    private final byte[] repeatedFile = new byte[256 * 1024];
+    private String adminToken;
+    private List<String> attachmentUrls;
+
+    @Override
+    public String name() {
+        return "files";
+    }
+
+    @Override
+    public int weight() {
+        return 5;
+    }
+
+    @Override
+    public Duration defaultP99() {
+        return Duration.ofMillis(1500);
+    }
+
+    @Override
+    public void prepare(LoadClient client, Dataset dataset) {
+        new Random(7).nextBytes(repeatedFile);
+        adminToken = client.login(dataset.adminUsername(), dataset.password());
+        attachmentUrls = dataset.attachmentUrls();
+    }
+
+    @Override
+    public void iterate(LoadClient client, int user, Random random) {
+        byte[] content = repeatedFile;
+        if (random.nextInt(4) != 0) {
+            content = new byte[MIN_UPLOAD_BYTES + random.nextInt(MAX_UPLOAD_BYTES - MIN_UPLOAD_BYTES)];
+            random.nextBytes(content);
+        }
+        HttpResponse<byte[]> uploaded = client.postFile("files.upload", "/api/admin/upload/file", adminToken,
+                "report-" + user + ".pdf", content);
+        if (uploaded != null) {
+            client.get("files.download-new", LoadClient.json(uploaded).path("data").path("fileUrl").asText(), null);
+        }
+        for (int i = 0; i < DOWNLOADS_PER_UPLOAD; i++) {
+            client.get("files.download", attachmentUrls.get(random.nextInt(attachmentUrls.size())), null);
+        }
+    }
+}
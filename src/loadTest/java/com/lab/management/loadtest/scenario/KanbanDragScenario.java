@@ -0,0 +1,102 @@
+package com.lab.management.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.lab.management.loadtest.Dataset;
+import com.lab.management.loadtest.LoadClient;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Researcher rearranging their project's kanban board: load the board, then a burst of drags,
+ * each sending the full task with its new status like {@code KanbanBoard.tsx} does. Teammates
+ * share a project, so drags on the same board overlap.
+ */
+public class KanbanDragScenario implements Scenario {
+
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE", "BLOCKED"};
+    private static final int DRAGS_PER_LOAD = 5;
+
+    private final List<Dataset.Account> accounts = new ArrayList<>();
+    private final Map<String, String> tokens = new HashMap<>();
+
+    @Override
+    public String name() {
+        return "kanban";
+    }
+
+    @Override
+    public int weight() {
+        return 15;
+    }
+
+    @Override
+    public Duration defaultP99() {
+        return Duration.ofMillis(500);
+    }
+
+    @Override
+    public void prepare(LoadClient client, Dataset dataset) {
+        accounts.addAll(dataset.accounts());
+        for (Dataset.Account account : accounts) {
+            tokens.put(account.username(), client.login(account.username(), dataset.password()));
+        }
+    }
+
+    @Override
+    public void iterate(LoadClient client, int user, Random random) {
+        Dataset.Account account = accounts.get(user % accounts.size());
+        String token = tokens.get(account.username());
+        String tasksPath = "/api/user/projects/" + account.projectId() + "/tasks";
+
+        HttpResponse<byte[]> board = client.get("kanban.load", tasksPath, token);
+        if (board == null) {
+            return;
+        }
+        JsonNode tasks = LoadClient.json(board).path("data");
+        if (tasks.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < DRAGS_PER_LOAD; i++) {
+            JsonNode task = tasks.get(random.nextInt(tasks.size()));
+            String status = STATUSES[random.nextInt(STATUSES.length)];
+            if (status.equals(task.path("status").asText())) {
+                status = STATUSES[(random.nextInt(STATUSES.length - 1) + 1 + indexOf(status)) % STATUSES.length];
+            }
+            client.putJson("kanban.drag", tasksPath + "/" + task.path("id").asLong(), token, dragBody(task, status, account));
+        }
+    }
+
+    private static Map<String, Object> dragBody(JsonNode task, String status, Dataset.Account account) {
+        List<Long> assigneeIds = new ArrayList<>();
+        task.path("assignees").forEach(assignee -> assigneeIds.add(assignee.path("id").asLong()));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", task.path("name").asText());
+        body.put("status", status);
+        body.put("priority", task.path("priority").asText());
+        body.put("dueDate", task.path("dueDate").isNull() ? null : task.path("dueDate").asText());
+        body.put("estimatedHours", task.path("estimatedHours").isNull() ? null : task.path("estimatedHours").asInt());
+        body.put("projectId", account.projectId());
+        body.put("assigneeIds", assigneeIds);
+        if (!task.path("description").asText("").isBlank()) {
+            body.put("description", task.path("description").asText());
+        }
+        return body;
+    }
+
+    private static int indexOf(String status) {
+        for (int i = 0; i < STATUSES.length; i++) {
+            if (STATUSES[i].equals(status)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
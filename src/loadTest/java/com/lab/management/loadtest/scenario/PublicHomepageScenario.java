@@ -0,0 +1,36 @@
+package com.lab.management.loadtest.scenario;
+
+import com.lab.management.loadtest.LoadClient;
+
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * Anonymous visitor opening the landing page, which loads lab info, members, projects and the
+ * latest notices (the same four calls as {@code LandingPage.tsx}).
+ */
+public class PublicHomepageScenario implements Scenario {
+
+    @Override
+    public String name() {
+        return "homepage";
+    }
+
+    @Override
+    public int weight() {
+        return 50;
+    }
+
+    @Override
+    public Duration defaultP99() {
+        return Duration.ofMillis(250);
+    }
+
+    @Override
+    public void iterate(LoadClient client, int user, Random random) {
+        client.get("homepage.lab-info", "/api/public/lab/info", null);
+        client.get("homepage.researchers", "/api/public/researchers", null);
+        client.get("homepage.projects", "/api/public/projects", null);
+        client.get("homepage.notices", "/api/public/notices/latest?limit=3", null);
+    }
+}
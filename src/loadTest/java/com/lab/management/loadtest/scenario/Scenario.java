@@ -0,0 +1,28 @@
+package com.lab.management.loadtest.scenario;
+
+import com.lab.management.loadtest.Dataset;
+import com.lab.management.loadtest.LoadClient;
+
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * One kind of simulated user. Every user of a scenario calls {@link #iterate} in a loop until the
+ * run ends; request names are prefixed with {@link #name()} so the report can group them.
+ */
+public interface Scenario {
+
+    String name();
+
+    /** Share of the simulated users that run this scenario. */
+    int weight();
+
+    /** p99 over all of the scenario's requests above which the run fails. */
+    Duration defaultP99();
+
+    /** Runs once before the users start (logins and the like); nothing here is recorded. */
+    default void prepare(LoadClient client, Dataset dataset) {
+    }
+
+    void iterate(LoadClient client, int user, Random random);
+}
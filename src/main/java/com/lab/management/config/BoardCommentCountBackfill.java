@@ -0,0 +1,31 @@
+package com.lab.management.config;
+
+import com.lab.management.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Backfills {@code boards.comment_count} from {@code board_comments}.
+ *
+ * The column was added to an existing schema, so boards created before it start at 0. Only rows
+ * whose stored count differs are rewritten, which makes the backfill a no-op once it has run.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardCommentCountBackfill implements CommandLineRunner {
+
+    private final BoardRepository boardRepository;
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        int updated = boardRepository.backfillCommentCounts();
+        if (updated > 0) {
+            log.info("Backfilled comment counts for {} boards", updated);
+        }
+    }
+}
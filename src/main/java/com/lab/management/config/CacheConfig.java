@@ -0,0 +1,92 @@
+package com.lab.management.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caffeine-backed caches for the anonymous, read-heavy /public endpoints and for per-request
+ * authentication state.
+ *
+ * Each cache has its own size/TTL spec ({@code cache.specs.<name>} in application.yml, Caffeine
+ * spec syntax). Entries are evicted explicitly by the owning service's mutators; the TTL only
+ * bounds staleness caused by cross-entity changes (e.g. an author renamed). Hit/miss counts are
+ * recorded and published through Micrometer as {@code cache.gets}, with the derived
+ * {@code cache.hit.ratio} gauge per cache.
+ */
+@Slf4j
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheConfig.CacheSpecProperties.class)
+public class CacheConfig {
+
+    public static final String LAB_INFO = "labInfo";
+    public static final String ACTIVE_RESEARCHERS = "activeResearchers";
+    public static final String ACTIVE_PROJECTS = "activeProjects";
+    public static final String RESEARCH_AREAS = "researchAreas";
+    public static final String PUBLIC_SEMINARS = "publicSeminars";
+    public static final String PUBLIC_ANNOUNCEMENTS = "publicAnnouncements";
+    public static final String PUBLIC_NOTICES = "publicNotices";
+    public static final String PUBLIC_BOARDS = "publicBoards";
+    public static final String TOKEN_VERSIONS = "tokenVersions";
+    public static final String USER_DETAILS = "userDetails";
+
+    private static final List<String> CACHE_NAMES = List.of(
+            LAB_INFO, ACTIVE_RESEARCHERS, ACTIVE_PROJECTS, RESEARCH_AREAS,
+            PUBLIC_SEMINARS, PUBLIC_ANNOUNCEMENTS, PUBLIC_NOTICES, PUBLIC_BOARDS,
+            TOKEN_VERSIONS, USER_DETAILS);
+
+    private static final String DEFAULT_SPEC = "maximumSize=100,expireAfterWrite=5m";
+
+    @Bean
+    public CacheManager cacheManager(CacheSpecProperties properties) {
+        List<CaffeineCache> caches = new ArrayList<>();
+        for (String name : CACHE_NAMES) {
+            String spec = properties.getSpecs().getOrDefault(name, DEFAULT_SPEC);
+            caches.add(new CaffeineCache(name, Caffeine.from(spec).recordStats().build()));
+            log.info("Configured cache '{}' with spec: {}", name, spec);
+        }
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
+        return cacheManager;
+    }
+
+    @Bean
+    public MeterBinder cacheHitRatioMetrics(CacheManager cacheManager) {
+        return registry -> {
+            for (String name : CACHE_NAMES) {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+                        ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+                Gauge.builder("cache.hit.ratio", nativeCache, cache -> cache.stats().hitRate())
+                        .tag("cache", name)
+                        .description("Fraction of cache lookups that were hits since startup")
+                        .register(registry);
+            }
+        };
+    }
+
+    @Getter
+    @Setter
+    @ConfigurationProperties(prefix = "cache")
+    public static class CacheSpecProperties {
+
+        private Map<String, String> specs = new HashMap<>();
+    }
+}
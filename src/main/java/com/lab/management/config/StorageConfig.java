@@ -0,0 +1,84 @@
+package com.lab.management.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+
+/**
+ * S3 client for {@code file.storage.backend=s3} (AWS S3 or any S3-compatible store such as MinIO).
+ *
+ * {@code endpoint} is left blank for AWS; {@code public-endpoint} is the address browsers use for
+ * presigned downloads when the app reaches the store under an internal name.
+ */
+@Configuration
+@ConditionalOnProperty(name = "file.storage.backend", havingValue = "s3")
+public class StorageConfig {
+
+    @Value("${file.storage.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${file.storage.s3.public-endpoint:}")
+    private String publicEndpoint;
+
+    @Value("${file.storage.s3.region:us-east-1}")
+    private String region;
+
+    @Value("${file.storage.s3.access-key:}")
+    private String accessKey;
+
+    @Value("${file.storage.s3.secret-key:}")
+    private String secretKey;
+
+    @Value("${file.storage.s3.path-style:true}")
+    private boolean pathStyle;
+
+    @Bean(destroyMethod = "close")
+    public S3Client s3Client() {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider())
+                .serviceConfiguration(serviceConfiguration());
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner() {
+        S3Presigner.Builder builder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider())
+                .serviceConfiguration(serviceConfiguration());
+        String presignEndpoint = StringUtils.hasText(publicEndpoint) ? publicEndpoint : endpoint;
+        if (StringUtils.hasText(presignEndpoint)) {
+            builder.endpointOverride(URI.create(presignEndpoint));
+        }
+        return builder.build();
+    }
+
+    private AwsCredentialsProvider credentialsProvider() {
+        return StringUtils.hasText(accessKey)
+                ? StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey))
+                : DefaultCredentialsProvider.create();
+    }
+
+    private S3Configuration serviceConfiguration() {
+        return S3Configuration.builder()
+                .pathStyleAccessEnabled(pathStyle)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.lab.management.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+/**
+ * Reports whether the {@code virtual} profile actually took effect.
+ *
+ * Spring Boot only switches Tomcat and the task executors to virtual threads on Java 21+, and
+ * silently keeps the platform pools on older runtimes, so a deployment that still runs on Java 17
+ * would otherwise look enabled from its configuration alone. It also flags MySQL Connector/J
+ * releases before 9.0, which do their socket I/O inside {@code synchronized} blocks and so pin a
+ * carrier thread for every query.
+ */
+@Component
+@Profile("virtual")
+@Slf4j
+@RequiredArgsConstructor
+public class VirtualThreadCheck implements CommandLineRunner {
+
+    private static final int FIRST_UNPINNED_MYSQL_DRIVER = 9;
+
+    private final DataSource dataSource;
+
+    @Override
+    public void run(String... args) {
+        int feature = Runtime.version().feature();
+        if (feature < 21) {
+            log.warn("Profile 'virtual' is active but the runtime is Java {}; requests stay on platform threads", feature);
+            return;
+        }
+        log.info("Serving requests and async tasks on virtual threads (Java {})", feature);
+        checkJdbcDriver();
+    }
+
+    // 드라이버가 I/O 중 모니터를 잡으면 쿼리마다 캐리어 스레드가 고정됨
+    private void checkJdbcDriver() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            if (metaData.getDriverName().startsWith("MySQL Connector")
+                    && metaData.getDriverMajorVersion() < FIRST_UNPINNED_MYSQL_DRIVER) {
+                log.warn("{} {} pins virtual threads during queries; use mysql-connector-j 9.0 or later",
+                        metaData.getDriverName(), metaData.getDriverVersion());
+            }
+        } catch (SQLException e) {
+            log.warn("Could not inspect the JDBC driver for virtual-thread pinning", e);
+        }
+    }
+}
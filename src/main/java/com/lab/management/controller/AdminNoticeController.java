@@ -3,8 +3,11 @@ package com.lab.management.controller;
 import com.lab.management.dto.CreateNoticeRequest;
 import com.lab.management.dto.NoticeDTO;
 import com.lab.management.dto.response.ApiResponse;
+import com.lab.management.dto.response.CursorPage;
 import com.lab.management.service.NoticeService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
@@ -29,6 +32,15 @@ public class AdminNoticeController {
         return ResponseEntity.ok(notices);
     }
 
+    // 모든 공지 목록 조회 (공개+내부, 커서 페이징)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<NoticeDTO>> getAllNoticesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size) {
+        CursorPage<NoticeDTO> notices = noticeService.getNoticesByCursor(cursor, size);
+        return ResponseEntity.ok(notices);
+    }
+
     // 공지 상세 조회 (공개+내부)
     @GetMapping("/{id}")
     public ResponseEntity<NoticeDTO> getNoticeById(@PathVariable Long id) {
@@ -0,0 +1,70 @@
+package com.lab.management.controller;
+
+import com.lab.management.dto.request.UploadSessionRequest;
+import com.lab.management.dto.response.ApiResponse;
+import com.lab.management.dto.response.UploadSessionResponse;
+import com.lab.management.service.ChunkedUploadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/admin/upload/sessions")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+@SecurityRequirement(name = "bearer-jwt")
+@Tag(name = "Admin - Chunked Upload", description = "Resumable chunked file uploads")
+public class ChunkedUploadController {
+
+    public static final String CHUNK_CHECKSUM_HEADER = "X-Chunk-SHA256";
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    @PostMapping
+    @Operation(summary = "Start a chunked upload")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> startUpload(@Valid @RequestBody UploadSessionRequest request) {
+        UploadSessionResponse session = chunkedUploadService.startSession(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Upload started", session));
+    }
+
+    @GetMapping("/{uploadId}")
+    @Operation(summary = "Get upload state", description = "Returns the offset to resume from")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> getUpload(@PathVariable String uploadId) {
+        return ResponseEntity.ok(ApiResponse.success(chunkedUploadService.getSession(uploadId)));
+    }
+
+    @PutMapping(value = "/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Upload a chunk",
+            description = "Raw chunk bytes starting at offset, with their hex SHA-256 in the X-Chunk-SHA256 header")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> uploadChunk(
+            @PathVariable String uploadId,
+            @RequestParam long offset,
+            @RequestHeader(CHUNK_CHECKSUM_HEADER) String checksum,
+            InputStream body) {
+        UploadSessionResponse session = chunkedUploadService.appendChunk(uploadId, offset, checksum, body);
+        return ResponseEntity.ok(ApiResponse.success(session));
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    @Operation(summary = "Complete a chunked upload")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> completeUpload(@PathVariable String uploadId) {
+        UploadSessionResponse session = chunkedUploadService.complete(uploadId);
+        return ResponseEntity.ok(ApiResponse.success("Upload completed", session));
+    }
+
+    @DeleteMapping("/{uploadId}")
+    @Operation(summary = "Abort a chunked upload")
+    public ResponseEntity<ApiResponse<Void>> abortUpload(@PathVariable String uploadId) {
+        chunkedUploadService.abort(uploadId);
+        return ResponseEntity.ok(ApiResponse.success("Upload aborted", null));
+    }
+}
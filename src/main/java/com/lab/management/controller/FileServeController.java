@@ -1,55 +1,319 @@
 package com.lab.management.controller;
 
+import com.lab.management.service.ImageDerivativeService;
+import com.lab.management.storage.PresignedUrl;
+import com.lab.management.storage.StorageEngine;
+import com.lab.management.storage.UploadLayout;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.util.UriUtils;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
 
+/**
+ * Serves uploaded files under {@code /files/**} (the URLs returned by the upload endpoints) and
+ * the older {@code /uploads/**} URLs, from either storage layout (see {@link UploadLayout}).
+ *
+ * Responses carry {@code ETag}/{@code Last-Modified} validators, answer conditional GETs with 304
+ * and honour single and multi-part {@code Range} requests (guarded by {@code If-Range}), so
+ * browsers can seek in videos and resume large downloads. Upload names are content digests (or
+ * random UUIDs for older uploads) and never rewritten, so they are cached as immutable; any other
+ * name must be revalidated.
+ *
+ * {@code file.serve-mode} selects how the bytes are sent once the headers are decided:
+ * {@code resource} copies through the JVM (message converters), {@code sendfile} hands the file
+ * region to Tomcat's sendfile ({@code FileChannel.transferTo}, no heap copy; falls back to
+ * {@code resource} for multi-range requests or connectors without sendfile support), and
+ * {@code x-accel} replies with an {@code X-Accel-Redirect} so nginx serves the file itself.
+ * While the layout migration is enabled, files still in the flat directory are always copied
+ * through the JVM, since the container or nginx would open them by name after the migrator may
+ * have moved them; a file moved while the request is being answered is looked up again.
+ *
+ * Images accept {@code ?size=<px>} and are answered with the smallest resized copy at least that
+ * wide (see {@link ImageDerivativeService}); until that copy exists the original is sent with
+ * {@code no-cache} so the browser picks up the smaller variant later.
+ *
+ * With an object-store backend ({@code file.storage.backend=s3}) new files are not on this node:
+ * a name not found on local disk is redirected to a presigned URL, cached privately for half its
+ * lifetime, and the store serves the bytes (resized variants are only available for local files).
+ * Files uploaded before the switch to the object store keep being served from disk.
+ */
 @Slf4j
 @RestController
-@RequestMapping("/api/files")
+@RequestMapping({"/files", "/uploads"})
+@RequiredArgsConstructor
 @CrossOrigin(origins = "*")
 public class FileServeController {
 
+    private static final Pattern IMMUTABLE_NAME = Pattern.compile(
+            "([0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}|[0-9a-f]{64})(\\.[A-Za-z0-9]+)?");
+    private static final CacheControl IMMUTABLE =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String X_ACCEL_REDIRECT = "X-Accel-Redirect";
+
+    public enum ServeMode {
+        RESOURCE, SENDFILE, X_ACCEL
+    }
+
+    private final ImageDerivativeService imageDerivativeService;
+    private final StorageEngine storageEngine;
+
     @Value("${file.upload-dir:uploads}")
     private String uploadDir;
 
+    @Value("${file.serve-mode:resource}")
+    private ServeMode serveMode;
+
+    @Value("${file.x-accel-prefix:/internal-uploads/}")
+    private String xAccelPrefix;
+
+    @Value("${file.storage.migration.enabled:true}")
+    private boolean migrationEnabled;
+
     @GetMapping("/{filename:.+}")
-    public ResponseEntity<Resource> serveFile(@PathVariable String filename) {
+    public ResponseEntity<Resource> serveFile(@PathVariable String filename,
+                                              @RequestParam(required = false) Integer size,
+                                              @RequestHeader HttpHeaders requestHeaders,
+                                              WebRequest request,
+                                              HttpServletRequest servletRequest) {
         try {
-            Path filePath = Paths.get(uploadDir).toAbsolutePath().resolve(filename).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
+            Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+            Path requested = uploadPath.resolve(filename).normalize();
+            if (!uploadPath.equals(requested.getParent())) {
+                log.error("File not found or not readable: {}", requested);
+                return ResponseEntity.notFound().build();
+            }
+            Integer width = size != null && size > 0 && imageDerivativeService.supports(filename)
+                    ? imageDerivativeService.widthFor(size) : null;
 
-            if (!resource.exists() || !resource.isReadable()) {
-                log.error("File not found or not readable: {}", filePath);
+            // 찾은 뒤 stat 전에 마이그레이션이 평면 경로의 파일을 옮겼으면 한 번 더 탐색
+            Path filePath = locate(uploadPath, filename, width);
+            BasicFileAttributes attributes = stat(filePath);
+            if (filePath != null && attributes == null) {
+                filePath = locate(uploadPath, filename, width);
+                attributes = stat(filePath);
+            }
+            if (attributes == null) {
+                // 로컬에 없는 파일만 객체 스토리지의 presigned URL로 리다이렉트 (전환 전에 올린 파일은 로컬에만 있음)
+                // Range/조건부 요청은 스토리지가 처리
+                Optional<PresignedUrl> presigned = storageEngine.presign(filename);
+                if (presigned.isPresent()) {
+                    Duration validFor = Duration.between(Instant.now(), presigned.get().getExpiration());
+                    log.info("Redirecting file to object storage: {}", filename);
+                    return ResponseEntity.status(HttpStatus.FOUND)
+                            .location(presigned.get().getUri())
+                            .cacheControl(CacheControl.maxAge(validFor.dividedBy(2)).cachePrivate())
+                            .build();
+                }
+                log.error("File not found or not readable: {}", requested);
                 return ResponseEntity.notFound().build();
             }
 
+            CacheControl cacheControl = IMMUTABLE_NAME.matcher(filename).matches() ? IMMUTABLE : REVALIDATE;
+            if (width != null && filePath.getFileName().toString().equals(filename)) {
+                // 파생 이미지가 생성되기 전에는 원본을 보내되 캐시에 고정되지 않도록 재검증
+                cacheControl = REVALIDATE;
+            }
+
+            long length = attributes.size();
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            String eTag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+            if (request.checkNotModified(eTag, lastModified)) {
+                return null;
+            }
+
             // 파일의 MIME 타입 결정
             String contentType = Files.probeContentType(filePath);
             if (contentType == null) {
                 contentType = "application/octet-stream";
             }
 
-            log.info("Serving file: {} with content type: {}", filename, contentType);
+            // 마이그레이션 중에는 평면 경로의 파일이 전송 전에 옮겨질 수 있으므로 이름으로 여는 위임 대신 JVM에서 전송
+            boolean movable = migrationEnabled && !UploadLayout.isSharded(filePath);
+            Resource resource = movable ? new FlatFileResource(filePath) : new FileSystemResource(filePath);
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.parseMediaType(contentType));
+            headers.set(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"");
+            headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+            headers.setETag(eTag);
+            headers.setLastModified(lastModified);
+            headers.setCacheControl(cacheControl);
+
+            if (serveMode == ServeMode.X_ACCEL && !movable) {
+                // nginx가 내부 location에서 직접 전송 (Range/sendfile 포함)
+                log.info("Redirecting file to nginx: {}", filename);
+                return ResponseEntity.ok().headers(headers)
+                        .header(X_ACCEL_REDIRECT, xAccelPrefix + UriUtils.encodePath(
+                                uploadPath.relativize(filePath).toString().replace('\\', '/'), StandardCharsets.UTF_8))
+                        .build();
+            }
+            if (serveMode == ServeMode.SENDFILE && !movable
+                    && Boolean.TRUE.equals(servletRequest.getAttribute(SENDFILE_SUPPORT))) {
+                ResponseEntity<Resource> response = sendfile(servletRequest, filePath, length, eTag, lastModified,
+                        requestHeaders, headers);
+                if (response != null) {
+                    log.info("Serving file via sendfile: {}", filename);
+                    return response;
+                }
+            }
+
+            // Range 요청은 MVC가 Resource 본문을 ResourceRegion으로 변환해 처리 (206 / multipart/byteranges / 416)
+            if (requestHeaders.containsKey(HttpHeaders.RANGE) && !ifRangeMatches(requestHeaders, eTag, lastModified)) {
+                // 파일이 바뀌었으므로 Range를 무시하고 전체 전송 (스트림 본문에는 Range가 적용되지 않음)
+                log.info("Serving changed file in full: {}", filename);
+                return ResponseEntity.ok().headers(headers).contentLength(length)
+                        .body(new InputStreamResource(resource.getInputStream()));
+            }
 
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
-                    .body(resource);
+            log.info("Serving file: {} with content type: {}", filename, contentType);
+            return ResponseEntity.ok().headers(headers).body(resource);
 
         } catch (IOException e) {
             log.error("Error serving file: {}", filename, e);
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    // 원본 (없거나 읽을 수 없으면 null), 요청한 너비의 파생 이미지가 있으면 그 경로
+    private Path locate(Path uploadPath, String filename, Integer width) {
+        Path filePath = UploadLayout.resolve(uploadPath, filename);
+        if (filePath == null || !Files.isReadable(filePath)) {
+            return null;
+        }
+        Path derivative = width != null ? imageDerivativeService.findOrSchedule(filename, width) : null;
+        return derivative != null ? derivative : filePath;
+    }
+
+    // 크기와 수정 시각을 한 번에 조회, 그 사이 파일이 옮겨지거나 삭제됐으면 null
+    private static BasicFileAttributes stat(Path filePath) throws IOException {
+        if (filePath == null) {
+            return null;
+        }
+        try {
+            return Files.readAttributes(filePath, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    // 전송할 구간만 정해 Tomcat sendfile에 위임 (다중 Range 및 범위 오류는 null을 반환해 일반 경로에서 처리)
+    private ResponseEntity<Resource> sendfile(HttpServletRequest servletRequest, Path filePath, long length,
+                                              String eTag, long lastModified,
+                                              HttpHeaders requestHeaders, HttpHeaders headers) {
+        if (length == 0) {
+            return null;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        boolean partial = false;
+        try {
+            List<HttpRange> ranges = ifRangeMatches(requestHeaders, eTag, lastModified)
+                    ? requestHeaders.getRange()
+                    : List.of();
+            if (ranges.size() > 1) {
+                return null;
+            }
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length);
+                partial = true;
+            }
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (start >= length || end < start) {
+            return null;
+        }
+        if (partial) {
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        servletRequest.setAttribute(SENDFILE_FILENAME, filePath.toString());
+        servletRequest.setAttribute(SENDFILE_START, start);
+        servletRequest.setAttribute(SENDFILE_END, end + 1);
+        return ResponseEntity.status(partial ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                .headers(headers)
+                .contentLength(end - start + 1)
+                .build();
+    }
+
+    // If-Range가 현재 검증자와 다르면 Range를 무시하고 전체 파일을 전송
+    private boolean ifRangeMatches(HttpHeaders requestHeaders, String eTag, long lastModified) {
+        String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(eTag);
+        }
+        try {
+            long since = requestHeaders.getFirstDate(HttpHeaders.IF_RANGE);
+            return since >= 0 && lastModified / 1000 == since / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // 평면 경로의 파일, 읽기 직전에 마이그레이션이 옮겼으면 샤딩 경로에서 읽음
+    private static final class FlatFileResource extends FileSystemResource {
+
+        private final Path sharded;
+
+        FlatFileResource(Path flat) {
+            super(flat);
+            this.sharded = UploadLayout.shardedPath(flat.getParent(), flat.getFileName().toString());
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            try {
+                return super.getInputStream();
+            } catch (FileNotFoundException | NoSuchFileException e) {
+                return Files.newInputStream(sharded);
+            }
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            try {
+                return super.contentLength();
+            } catch (FileNotFoundException | NoSuchFileException e) {
+                return Files.size(sharded);
+            }
+        }
+    }
 }
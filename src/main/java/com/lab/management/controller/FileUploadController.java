@@ -1,21 +1,17 @@
 package com.lab.management.controller;
 
 import com.lab.management.dto.response.ApiResponse;
+import com.lab.management.service.FileStorageService;
+import com.lab.management.service.ImageDerivativeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 @Slf4j
 @RestController
@@ -24,8 +20,8 @@ import java.util.UUID;
 @CrossOrigin(origins = "*")
 public class FileUploadController {
 
-    @Value("${file.upload-dir:uploads}")
-    private String uploadDir;
+    private final FileStorageService fileStorageService;
+    private final ImageDerivativeService imageDerivativeService;
 
     @PostMapping("/image")
     public ResponseEntity<ApiResponse<String>> uploadImage(@RequestParam("file") MultipartFile file) {
@@ -48,35 +44,15 @@ public class FileUploadController {
 
             // 확장자 제한 제거됨 - 모든 파일 타입 허용
 
-            // 파일 저장 디렉토리 생성
-            Path uploadPath = Paths.get(uploadDir).toAbsolutePath();
-            log.info("Upload directory (absolute): {}", uploadPath);
+            // 내용 해시 기반 저장 (동일한 파일은 한 번만 저장)
+            String fileUrl = fileStorageService.storeFile(file);
 
-            if (!Files.exists(uploadPath)) {
-                log.info("Creating upload directory: {}", uploadPath);
-                Files.createDirectories(uploadPath);
-            }
-
-            // 고유한 파일명 생성
-            String filename = UUID.randomUUID().toString() + extension;
-            Path filePath = uploadPath.resolve(filename);
-
-            log.info("Saving file to: {}", filePath.toAbsolutePath());
-
-            // 파일 저장
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-            // URL 반환 - context path (/api) 포함
-            String fileUrl = "/api/files/" + filename;
+            // 썸네일 등 크기별 파생 이미지는 백그라운드에서 생성
+            imageDerivativeService.scheduleDerivatives(StringUtils.getFilename(fileUrl));
 
             log.info("File uploaded successfully: {} -> {}", originalFilename, fileUrl);
             return ResponseEntity.ok(ApiResponse.success(fileUrl));
 
-        } catch (IOException e) {
-            log.error("Failed to upload file: {} - Error: {}",
-                    file.getOriginalFilename(), e.getMessage(), e);
-            return ResponseEntity.internalServerError()
-                    .body(ApiResponse.error("파일 업로드에 실패했습니다: " + e.getMessage()));
         } catch (Exception e) {
             log.error("Unexpected error during file upload: {} - Error: {}",
                     file.getOriginalFilename(), e.getMessage(), e);
@@ -113,26 +89,10 @@ public class FileUploadController {
                         .body(ApiResponse.error("파일 크기는 10MB를 초과할 수 없습니다."));
             }
 
-            // 파일 저장 디렉토리 생성
-            Path uploadPath = Paths.get(uploadDir).toAbsolutePath();
-            log.info("Upload directory (absolute): {}", uploadPath);
-
-            if (!Files.exists(uploadPath)) {
-                log.info("Creating upload directory: {}", uploadPath);
-                Files.createDirectories(uploadPath);
-            }
-
-            // 고유한 파일명 생성
-            String filename = UUID.randomUUID().toString() + extension;
-            Path filePath = uploadPath.resolve(filename);
-
-            log.info("Saving file to: {}", filePath.toAbsolutePath());
-
-            // 파일 저장
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            // 내용 해시 기반 저장 (동일한 파일은 한 번만 저장)
+            String fileUrl = fileStorageService.storeFile(file);
 
             // URL 및 원본 파일명 반환
-            String fileUrl = "/api/files/" + filename;
             Map<String, String> result = new HashMap<>();
             result.put("fileUrl", fileUrl);
             result.put("originalName", originalFilename);
@@ -140,11 +100,6 @@ public class FileUploadController {
             log.info("File uploaded successfully: {} -> {}", originalFilename, fileUrl);
             return ResponseEntity.ok(ApiResponse.success(result));
 
-        } catch (IOException e) {
-            log.error("Failed to upload file: {} - Error: {}",
-                    file.getOriginalFilename(), e.getMessage(), e);
-            return ResponseEntity.internalServerError()
-                    .body(ApiResponse.error("파일 업로드에 실패했습니다: " + e.getMessage()));
         } catch (Exception e) {
             log.error("Unexpected error during file upload: {} - Error: {}",
                     file.getOriginalFilename(), e.getMessage(), e);
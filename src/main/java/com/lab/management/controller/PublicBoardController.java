@@ -3,6 +3,8 @@ package com.lab.management.controller;
 import com.lab.management.dto.BoardCommentDTO;
 import com.lab.management.dto.BoardDTO;
 import com.lab.management.service.BoardService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
@@ -38,8 +40,8 @@ public class PublicBoardController {
     @GetMapping("/search")
     public ResponseEntity<Page<BoardDTO>> searchBoards(
             @RequestParam String keyword,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size) {
         Page<BoardDTO> boards = boardService.searchBoards(keyword, page, size);
         return ResponseEntity.ok(boards);
     }
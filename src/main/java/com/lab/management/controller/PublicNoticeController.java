@@ -2,11 +2,14 @@ package com.lab.management.controller;
 
 import com.lab.management.dto.NoticeDTO;
 import com.lab.management.dto.response.ApiResponse;
+import com.lab.management.service.ListVersionService;
 import com.lab.management.service.NoticeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,23 +19,43 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class PublicNoticeController {
 
+    // 폴링 목록: 매번 ETag 재검증
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+
     private final NoticeService noticeService;
+    private final ListVersionService listVersionService;
 
     // 공개 공지 최신 N개 조회 (랜딩페이지용)
     @GetMapping("/latest")
     public ResponseEntity<ApiResponse<List<NoticeDTO>>> getLatestPublicNotices(
-            @RequestParam(defaultValue = "5") int limit) {
-        List<NoticeDTO> notices = noticeService.getPublicNotices(limit);
-        return ResponseEntity.ok(ApiResponse.success(notices));
+            @RequestParam(defaultValue = "5") int limit, WebRequest request) {
+        String eTag = listVersionService.publicNoticeListETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        List<NoticeDTO> notices = noticeService.getPublicNotices(eTag, limit);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success(notices));
     }
 
     // 공개 공지 목록 조회 (페이징)
     @GetMapping
     public ResponseEntity<ApiResponse<Page<NoticeDTO>>> getPublicNotices(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Page<NoticeDTO> notices = noticeService.getPublicNotices(page, size);
-        return ResponseEntity.ok(ApiResponse.success(notices));
+            @RequestParam(defaultValue = "10") int size, WebRequest request) {
+        String eTag = listVersionService.publicNoticeListETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        Page<NoticeDTO> notices = noticeService.getPublicNotices(eTag, page, size);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success(notices));
     }
 
     // 공개 공지 상세 조회
@@ -5,8 +5,11 @@ import com.lab.management.dto.BoardDTO;
 import com.lab.management.dto.CreateBoardRequest;
 import com.lab.management.dto.CreateCommentRequest;
 import com.lab.management.dto.response.ApiResponse;
+import com.lab.management.dto.response.CursorPage;
 import com.lab.management.service.BoardService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
@@ -33,6 +36,15 @@ public class UserBoardController {
         return ResponseEntity.ok(boards);
     }
 
+    // 모든 게시글 목록 조회 (공개+내부, 커서 페이징)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<BoardDTO>> getAllBoardsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size) {
+        CursorPage<BoardDTO> boards = boardService.getBoardsByCursor(cursor, size);
+        return ResponseEntity.ok(boards);
+    }
+
     // 게시글 상세 조회 (조회수 증가)
     @GetMapping("/{id}")
     public ResponseEntity<BoardDTO> getBoardById(@PathVariable Long id) {
@@ -76,8 +88,8 @@ public class UserBoardController {
     @GetMapping("/search")
     public ResponseEntity<Page<BoardDTO>> searchBoards(
             @RequestParam String keyword,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size) {
         Page<BoardDTO> boards = boardService.searchBoards(keyword, page, size);
         return ResponseEntity.ok(boards);
     }
@@ -2,7 +2,10 @@ package com.lab.management.controller;
 
 import com.lab.management.dto.NoticeDTO;
 import com.lab.management.dto.response.ApiResponse;
+import com.lab.management.dto.response.CursorPage;
 import com.lab.management.service.NoticeService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
@@ -25,6 +28,15 @@ public class UserNoticeController {
         return ResponseEntity.ok(notices);
     }
 
+    // 모든 공지 목록 조회 (공개+내부, 커서 페이징)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<NoticeDTO>> getAllNoticesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size) {
+        CursorPage<NoticeDTO> notices = noticeService.getNoticesByCursor(cursor, size);
+        return ResponseEntity.ok(notices);
+    }
+
     // 공지 상세 조회 (공개+내부) - 연구원도 조회 가능
     @GetMapping("/{id}")
     public ResponseEntity<NoticeDTO> getNoticeById(@PathVariable Long id) {
@@ -0,0 +1,27 @@
+package com.lab.management.controller.admin;
+
+import com.lab.management.dto.response.ApiResponse;
+import com.lab.management.service.SearchIndexService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/search")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearer-jwt")
+@Tag(name = "Admin - Search", description = "Search index maintenance")
+public class SearchAdminController {
+
+    private final SearchIndexService searchIndexService;
+
+    @PostMapping("/reindex")
+    @Operation(summary = "Rebuild the search index from the database")
+    public ResponseEntity<ApiResponse<Integer>> reindex() {
+        int count = searchIndexService.reindexAll();
+        return ResponseEntity.ok(ApiResponse.success("Search index rebuilt", count));
+    }
+}
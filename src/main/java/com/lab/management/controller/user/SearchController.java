@@ -0,0 +1,39 @@
+package com.lab.management.controller.user;
+
+import com.lab.management.dto.response.ApiResponse;
+import com.lab.management.dto.response.SearchResultResponse;
+import com.lab.management.entity.SearchDocumentType;
+import com.lab.management.service.SearchIndexService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/user/search")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearer-jwt")
+@Tag(name = "Search", description = "Full-text search over boards, notices, seminars and announcements")
+public class SearchController {
+
+    private final SearchIndexService searchIndexService;
+
+    @GetMapping
+    @Operation(summary = "Search titles and contents, ranked by relevance")
+    public ResponseEntity<ApiResponse<Page<SearchResultResponse>>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) SearchDocumentType type,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        Page<SearchResultResponse> results = searchIndexService.search(q, type, page, size);
+        return ResponseEntity.ok(ApiResponse.success(results));
+    }
+}
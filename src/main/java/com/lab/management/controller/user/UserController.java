@@ -16,6 +16,7 @@ import com.lab.management.entity.ResearchArea;
 import com.lab.management.entity.User;
 import com.lab.management.repository.UserRepository;
 import com.lab.management.service.CommentService;
+import com.lab.management.service.ListVersionService;
 import com.lab.management.service.ProjectHistoryService;
 import com.lab.management.service.ProjectService;
 import com.lab.management.service.ResearchAreaService;
@@ -27,11 +28,13 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -43,6 +46,9 @@ import java.util.Map;
 @Tag(name = "User", description = "User endpoints for researchers")
 public class UserController {
 
+    // 폴링 목록: 매번 ETag 재검증 (사용자별 응답이므로 공유 캐시 금지)
+    private static final CacheControl REVALIDATE_PRIVATE = CacheControl.noCache().cachePrivate();
+
     private final ResearcherService researcherService;
     private final ProjectService projectService;
     private final TaskService taskService;
@@ -51,6 +57,7 @@ public class UserController {
     private final CommentService commentService;
     private final ProjectHistoryService projectHistoryService;
     private final UserService userService;
+    private final ListVersionService listVersionService;
 
     @GetMapping("/my-profile")
     @Operation(summary = "Get my profile")
@@ -86,8 +93,13 @@ public class UserController {
 
     @GetMapping("/my-tasks")
     @Operation(summary = "Get my assigned tasks")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> getMyTasks(Authentication authentication) {
+    public ResponseEntity<ApiResponse<List<TaskResponse>>> getMyTasks(Authentication authentication, WebRequest request) {
         String username = authentication.getName();
+        String eTag = listVersionService.taskListETag(username);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
@@ -96,7 +108,10 @@ public class UserController {
         }
 
         List<TaskResponse> tasks = taskService.getTasksByResearcherId(user.getResearcher().getId());
-        return ResponseEntity.ok(ApiResponse.success(tasks));
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(REVALIDATE_PRIVATE)
+                .body(ApiResponse.success(tasks));
     }
 
     @GetMapping("/my-projects")
@@ -116,9 +131,17 @@ public class UserController {
 
     @GetMapping("/projects")
     @Operation(summary = "Get all projects (read-only for researchers)")
-    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getAllProjects() {
+    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getAllProjects(WebRequest request) {
+        String eTag = listVersionService.projectListETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
         List<ProjectResponse> projects = projectService.getAllProjects();
-        return ResponseEntity.ok(ApiResponse.success(projects));
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(REVALIDATE_PRIVATE)
+                .body(ApiResponse.success(projects));
     }
 
     @GetMapping("/projects/{id}")
@@ -398,8 +421,9 @@ public class UserController {
             Authentication authentication) {
         try {
             String currentUsername = authentication.getName();
-            userService.changeMyPassword(currentUsername, request);
-            return ResponseEntity.ok(ApiResponse.success("Password changed successfully", null));
+            // 기존 토큰은 무효화되므로 새 토큰을 응답으로 전달
+            String token = userService.changeMyPassword(currentUsername, request);
+            return ResponseEntity.ok(ApiResponse.success("Password changed successfully", token));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error(e.getMessage()));
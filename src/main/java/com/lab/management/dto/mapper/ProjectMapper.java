@@ -13,6 +13,12 @@ public interface ProjectMapper {
     @Mapping(target = "taskCount", expression = "java(project.getTasks() != null ? project.getTasks().size() : 0)")
     ProjectResponse toResponse(Project project);
 
+    // List variant: taskCount is filled from a grouped count query instead of loading tasks
+    @Named("summary")
+    @Mapping(target = "taskCount", ignore = true)
+    ProjectResponse toSummaryResponse(Project project);
+
+    @IterableMapping(qualifiedByName = "summary")
     List<ProjectResponse> toResponseList(List<Project> projects);
 
     @Mapping(target = "id", ignore = true)
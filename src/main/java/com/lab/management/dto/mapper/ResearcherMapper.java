@@ -3,6 +3,7 @@ package com.lab.management.dto.mapper;
 import com.lab.management.dto.request.ResearcherRequest;
 import com.lab.management.dto.response.ResearcherResponse;
 import com.lab.management.entity.Researcher;
+import com.lab.management.repository.TaskAssigneeSummary;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -14,6 +15,9 @@ public interface ResearcherMapper {
 
     List<ResearcherResponse> toResponseList(List<Researcher> researchers);
 
+    @Mapping(target = "researchAreas", ignore = true)
+    ResearcherResponse toResponse(TaskAssigneeSummary assignee);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "projects", ignore = true)
     @Mapping(target = "tasks", ignore = true)
@@ -3,6 +3,7 @@ package com.lab.management.dto.mapper;
 import com.lab.management.dto.request.TaskRequest;
 import com.lab.management.dto.response.TaskResponse;
 import com.lab.management.entity.Task;
+import com.lab.management.repository.TaskSummary;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -16,6 +17,9 @@ public interface TaskMapper {
 
     List<TaskResponse> toResponseList(List<Task> tasks);
 
+    @Mapping(target = "assignees", ignore = true)
+    TaskResponse toResponse(TaskSummary summary);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "project", ignore = true)
     @Mapping(target = "assignees", ignore = true)
@@ -0,0 +1,23 @@
+package com.lab.management.dto.response;
+
+import com.lab.management.entity.SearchDocumentType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultResponse {
+
+    private SearchDocumentType type;
+    private Long id;
+    private String title;
+    private String snippet;
+    private float score;
+    private LocalDateTime createdAt;
+}
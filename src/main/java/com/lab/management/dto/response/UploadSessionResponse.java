@@ -0,0 +1,22 @@
+package com.lab.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of a chunked upload. {@code offset} is where the next chunk must start; {@code fileUrl}
+ * is only set once the upload has been completed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionResponse {
+    private String uploadId;
+    private String originalName;
+    private Long size;
+    private Long offset;
+    private String fileUrl;
+}
@@ -22,4 +22,9 @@ public abstract class BaseEntity {
     @LastModifiedDate
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    // 컬렉션(조인 테이블)만 바뀌면 행이 변경되지 않아 수정 시각이 그대로이므로 직접 갱신 (목록 ETag에 반영)
+    public void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
@@ -2,13 +2,16 @@ package com.lab.management.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "boards")
+@Table(name = "boards", indexes = {
+    @Index(name = "idx_boards_created_at_id", columnList = "created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -46,10 +49,17 @@ public class Board {
     @JoinColumn(name = "author_id", nullable = false)
     private Researcher author;
 
-    @Column(name = "view_count", nullable = false)
+    // 조회수는 BoardViewCounter가 증분 UPDATE로만 반영 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "view_count", nullable = false, updatable = false)
     @Builder.Default
     private Integer viewCount = 0;
 
+    // 댓글 수는 댓글 작성/삭제 시 증분 UPDATE로만 반영 (목록 조회 시 댓글 컬렉션 로딩 방지)
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer commentCount = 0;
+
     @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<BoardComment> comments = new ArrayList<>();
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -65,6 +66,7 @@ public class Project extends BaseEntity {
     private Boolean isPublic = true;
 
     @ElementCollection(fetch = FetchType.EAGER)
+    @BatchSize(size = 100)
     @CollectionTable(name = "project_categories", joinColumns = @JoinColumn(name = "project_id"))
     @Column(name = "category")
     @Builder.Default
@@ -0,0 +1,8 @@
+package com.lab.management.entity;
+
+public enum SearchDocumentType {
+    BOARD,
+    NOTICE,
+    SEMINAR,
+    ANNOUNCEMENT
+}
@@ -0,0 +1,32 @@
+package com.lab.management.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * A content-addressed upload: the file {@code name} ({@code <sha256><ext>}) in the upload
+ * directory and the number of uploads that currently resolve to it. The file is removed when the
+ * count drops to zero.
+ */
+@Entity
+@Table(name = "stored_blobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoredBlob extends BaseEntity {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 64)
+    private String digest;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private Long refCount;
+}
@@ -0,0 +1,43 @@
+package com.lab.management.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * An in-progress chunked upload. Chunks are appended to {@code .incoming/<id>.part} under the
+ * upload directory; {@code receivedSize} only advances once a chunk has been written and its
+ * checksum verified, so it is always the offset the client must resume from. A completion marks
+ * the row {@code COMPLETING} while it publishes the file and removes it once the file is stored;
+ * if publishing fails the row goes back to {@code UPLOADING} so completion can be retried. The row
+ * is also removed when the upload is aborted or expires.
+ */
+@Entity
+@Table(name = "upload_sessions", indexes = {
+    @Index(name = "idx_upload_sessions_updated_at", columnList = "updated_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSession extends BaseEntity {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "original_name", nullable = false)
+    private String originalName;
+
+    @Column(name = "total_size", nullable = false)
+    private Long totalSize;
+
+    @Column(name = "received_size", nullable = false)
+    @Builder.Default
+    private Long receivedSize = 0L;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    @Builder.Default
+    private UploadSessionStatus status = UploadSessionStatus.UPLOADING;
+}
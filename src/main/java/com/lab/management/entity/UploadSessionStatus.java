@@ -0,0 +1,6 @@
+package com.lab.management.entity;
+
+public enum UploadSessionStatus {
+    UPLOADING,
+    COMPLETING
+}
@@ -3,6 +3,7 @@ package com.lab.management.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "users")
@@ -37,4 +38,10 @@ public class User extends BaseEntity {
     @Column(nullable = false)
     @Builder.Default
     private Boolean enabled = true;
+
+    // 증가시키면 이전에 발급된 토큰이 모두 무효화됨
+    @Column(name = "token_version", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer tokenVersion = 0;
 }
@@ -0,0 +1,52 @@
+package com.lab.management.event;
+
+import com.lab.management.entity.Announcement;
+import com.lab.management.entity.Board;
+import com.lab.management.entity.Notice;
+import com.lab.management.entity.SearchDocumentType;
+import com.lab.management.entity.Seminar;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by the board/notice/seminar/announcement services whenever a searchable document is
+ * written. Only the document key is set for deletions.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SearchDocumentEvent {
+
+    private final SearchDocumentType type;
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final boolean deleted;
+
+    public static SearchDocumentEvent saved(Board board) {
+        return new SearchDocumentEvent(SearchDocumentType.BOARD, board.getId(),
+                board.getTitle(), board.getContent(), board.getCreatedAt(), false);
+    }
+
+    public static SearchDocumentEvent saved(Notice notice) {
+        return new SearchDocumentEvent(SearchDocumentType.NOTICE, notice.getId(),
+                notice.getTitle(), notice.getContent(), notice.getCreatedAt(), false);
+    }
+
+    public static SearchDocumentEvent saved(Seminar seminar) {
+        return new SearchDocumentEvent(SearchDocumentType.SEMINAR, seminar.getId(),
+                seminar.getTitle(), seminar.getContent(), seminar.getCreatedAt(), false);
+    }
+
+    public static SearchDocumentEvent saved(Announcement announcement) {
+        return new SearchDocumentEvent(SearchDocumentType.ANNOUNCEMENT, announcement.getId(),
+                announcement.getTitle(), announcement.getContent(), announcement.getCreatedAt(), false);
+    }
+
+    public static SearchDocumentEvent deleted(SearchDocumentType type, Long id) {
+        return new SearchDocumentEvent(type, id, null, null, null, true);
+    }
+}
@@ -0,0 +1,34 @@
+package com.lab.management.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by the researcher/project/task services whenever an entity is created, deleted
+ * or moves to another status. {@code previousStatus} is null for creations and
+ * {@code currentStatus} is null for deletions.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class StatusChangedEvent {
+
+    private final Enum<?> previousStatus;
+    private final Enum<?> currentStatus;
+
+    public static StatusChangedEvent created(Enum<?> status) {
+        return new StatusChangedEvent(null, status);
+    }
+
+    public static StatusChangedEvent updated(Enum<?> previousStatus, Enum<?> currentStatus) {
+        return new StatusChangedEvent(previousStatus, currentStatus);
+    }
+
+    public static StatusChangedEvent deleted(Enum<?> status) {
+        return new StatusChangedEvent(status, null);
+    }
+
+    public boolean isNoop() {
+        return previousStatus == currentStatus;
+    }
+}
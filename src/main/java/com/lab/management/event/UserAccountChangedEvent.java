@@ -0,0 +1,16 @@
+package com.lab.management.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by the account services whenever the credentials, username, role or existence of an
+ * account changes, so that per-user authentication state cached for {@code username} is dropped
+ * after commit.
+ */
+@Getter
+@AllArgsConstructor
+public class UserAccountChangedEvent {
+
+    private final String username;
+}
@@ -0,0 +1,7 @@
+package com.lab.management.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super(String.format("Invalid cursor: '%s'", cursor));
+    }
+}
@@ -0,0 +1,7 @@
+package com.lab.management.exception;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException() {
+        super("Server is busy verifying passwords, please retry shortly");
+    }
+}
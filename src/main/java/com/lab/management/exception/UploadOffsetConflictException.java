@@ -0,0 +1,14 @@
+package com.lab.management.exception;
+
+import lombok.Getter;
+
+@Getter
+public class UploadOffsetConflictException extends RuntimeException {
+
+    private final long expectedOffset;
+
+    public UploadOffsetConflictException(String uploadId, long expectedOffset) {
+        super(String.format("Upload '%s' expects the next chunk at offset %d", uploadId, expectedOffset));
+        this.expectedOffset = expectedOffset;
+    }
+}
@@ -0,0 +1,11 @@
+package com.lab.management.repository;
+
+/**
+ * Projection row for claims-based token checks: (account id, current token version).
+ */
+public interface AccountTokenVersion {
+
+    Long getUserId();
+
+    Integer getTokenVersion();
+}
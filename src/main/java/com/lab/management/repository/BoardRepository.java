@@ -3,23 +3,55 @@ package com.lab.management.repository;
 import com.lab.management.entity.Board;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface BoardRepository extends JpaRepository<Board, Long> {
+public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
 
     // 공개 게시글 조회 (페이징)
+    @EntityGraph(attributePaths = {"author", "author.user"})
     Page<Board> findByIsPublicTrue(Pageable pageable);
 
     // 모든 게시글 조회 (페이징)
+    @EntityGraph(attributePaths = {"author", "author.user"})
     Page<Board> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
+    // 커서 페이징 첫 페이지 (최신순, COUNT 쿼리 없음)
+    @EntityGraph(attributePaths = {"author", "author.user"})
+    List<Board> findAllByOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    // 커서 페이징 다음 페이지: (created_at, id) 기준 seek
+    @EntityGraph(attributePaths = {"author", "author.user"})
+    @Query("SELECT b FROM Board b WHERE b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id) "
+            + "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Board> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
     // 작성자별 게시글 조회
     List<Board> findByAuthorIdOrderByCreatedAtDesc(Long authorId);
 
-    // 제목으로 검색
-    Page<Board> findByTitleContainingOrderByCreatedAtDesc(String keyword, Pageable pageable);
+    // 검색 결과 ID로 게시글 조회
+    @EntityGraph(attributePaths = {"author", "author.user"})
+    List<Board> findByIdIn(Collection<Long> ids);
+
+    // 댓글 수 원자적 증감
+    @Modifying
+    @Query("UPDATE Board b SET b.commentCount = b.commentCount + :delta WHERE b.id = :boardId")
+    int addCommentCount(@Param("boardId") Long boardId, @Param("delta") int delta);
+
+    // 댓글 수 백필 (실제 댓글 수와 다른 게시글만 갱신)
+    @Modifying
+    @Query(value = "UPDATE boards SET comment_count = "
+            + "(SELECT COUNT(*) FROM board_comments c WHERE c.board_id = boards.id) "
+            + "WHERE comment_count <> (SELECT COUNT(*) FROM board_comments c WHERE c.board_id = boards.id)",
+            nativeQuery = true)
+    int backfillCommentCounts();
 }
@@ -0,0 +1,9 @@
+package com.lab.management.repository;
+
+import java.util.Map;
+
+public interface BoardRepositoryCustom {
+
+    // 게시글별 조회수 증분을 한 번의 배치로 반영
+    void addViewCounts(Map<Long, Long> deltas);
+}
@@ -0,0 +1,21 @@
+package com.lab.management.repository;
+
+import com.lab.management.entity.Project;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+
+public interface DashboardRepository extends Repository<Project, Long> {
+
+    String CATEGORY_RESEARCHER = "RESEARCHER";
+    String CATEGORY_PROJECT = "PROJECT";
+    String CATEGORY_TASK = "TASK";
+
+    // 연구원/프로젝트/태스크 상태별 건수를 한 번의 쿼리로 집계
+    @Query(value = "SELECT 'RESEARCHER' AS category, status AS status, COUNT(*) AS total FROM researchers GROUP BY status "
+            + "UNION ALL SELECT 'PROJECT' AS category, status AS status, COUNT(*) AS total FROM projects GROUP BY status "
+            + "UNION ALL SELECT 'TASK' AS category, status AS status, COUNT(*) AS total FROM tasks GROUP BY status",
+            nativeQuery = true)
+    List<StatusCount> countAllByStatus();
+}
@@ -0,0 +1,43 @@
+package com.lab.management.repository;
+
+import com.lab.management.entity.Project;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ListVersionRepository extends Repository<Project, Long> {
+
+    // 사용자 이름으로 담당 태스크 ID 조회 (서브쿼리용)
+    String MY_TASK_IDS = "SELECT ta.task_id FROM task_assignees ta "
+            + "JOIN users u ON u.researcher_id = ta.researcher_id WHERE u.username = :username";
+
+    // 전체 프로젝트 목록 응답에 포함되는 테이블들의 건수/최종 수정 시각
+    @Query(value = "SELECT 'projects' AS source, COUNT(*) AS total, MAX(updated_at) AS lastModified FROM projects "
+            + "UNION ALL SELECT 'project_categories', COUNT(*), NULL FROM project_categories "
+            + "UNION ALL SELECT 'project_researchers', COUNT(*), NULL FROM project_researchers "
+            + "UNION ALL SELECT 'researchers', COUNT(*), MAX(updated_at) FROM researchers "
+            + "UNION ALL SELECT 'researcher_research_areas', COUNT(*), NULL FROM researcher_research_areas "
+            + "UNION ALL SELECT 'tasks', COUNT(*), MAX(updated_at) FROM tasks",
+            nativeQuery = true)
+    List<VersionStamp> findProjectListVersion();
+
+    // 내 태스크 목록 응답에 포함되는 테이블들의 건수/최종 수정 시각
+    @Query(value = "SELECT 'tasks' AS source, COUNT(*) AS total, MAX(updated_at) AS lastModified FROM tasks "
+            + "WHERE id IN (" + MY_TASK_IDS + ") "
+            + "UNION ALL SELECT 'task_assignees', COUNT(*), NULL FROM task_assignees "
+            + "WHERE task_id IN (" + MY_TASK_IDS + ") "
+            + "UNION ALL SELECT 'projects', COUNT(*), MAX(updated_at) FROM projects "
+            + "UNION ALL SELECT 'researchers', COUNT(*), MAX(updated_at) FROM researchers "
+            + "UNION ALL SELECT 'researcher_research_areas', COUNT(*), NULL FROM researcher_research_areas",
+            nativeQuery = true)
+    List<VersionStamp> findTaskListVersionByUsername(@Param("username") String username);
+
+    // 공개 공지 목록 응답에 포함되는 테이블들의 건수/최종 수정 시각
+    @Query(value = "SELECT 'notices' AS source, COUNT(*) AS total, MAX(updated_at) AS lastModified FROM notices "
+            + "WHERE is_public = TRUE "
+            + "UNION ALL SELECT 'researchers', COUNT(*), MAX(updated_at) FROM researchers",
+            nativeQuery = true)
+    List<VersionStamp> findPublicNoticeListVersion();
+}
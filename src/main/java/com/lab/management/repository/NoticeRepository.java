@@ -3,9 +3,13 @@ package com.lab.management.repository;
 import com.lab.management.entity.Notice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -19,4 +23,14 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
 
     // 모든 공지 조회 (최신순, 페이징)
     Page<Notice> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    // 커서 페이징 첫 페이지 (최신순, COUNT 쿼리 없음)
+    @EntityGraph(attributePaths = {"author", "author.user"})
+    List<Notice> findAllByOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    // 커서 페이징 다음 페이지: (created_at, id) 기준 seek
+    @EntityGraph(attributePaths = {"author", "author.user"})
+    @Query("SELECT n FROM Notice n WHERE n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id) "
+            + "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notice> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
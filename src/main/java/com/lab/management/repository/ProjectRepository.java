@@ -2,6 +2,7 @@ package com.lab.management.repository;
 
 import com.lab.management.entity.Project;
 import com.lab.management.entity.ProjectStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,6 +14,13 @@ import java.util.List;
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    // List endpoints fetch researchers (and their inverse one-to-one user) in the same query;
+    // element collections are batch-loaded
+    @EntityGraph(attributePaths = {"researchers", "researchers.user"})
+    @Query("SELECT p FROM Project p")
+    List<Project> findAllWithResearchers();
+
+    @EntityGraph(attributePaths = {"researchers", "researchers.user"})
     List<Project> findByStatus(ProjectStatus status);
 
     List<Project> findByStatusOrderByStartDateDesc(ProjectStatus status);
@@ -20,12 +28,19 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query("SELECT p FROM Project p WHERE p.endDate >= :date AND p.status != 'COMPLETED'")
     List<Project> findActiveProjectsAfterDate(@Param("date") LocalDate date);
 
+    @EntityGraph(attributePaths = {"researchers", "researchers.user"})
     @Query("SELECT p FROM Project p WHERE p.status IN ('PLANNING', 'IN_PROGRESS') ORDER BY p.priority DESC, p.startDate DESC")
     List<Project> findAllActiveProjects();
 
     @Query("SELECT COUNT(p) FROM Project p WHERE p.status = :status")
     long countByStatus(ProjectStatus status);
 
-    @Query("SELECT p FROM Project p JOIN p.researchers r WHERE r.id = :researcherId")
+    @EntityGraph(attributePaths = {"researchers", "researchers.user"})
+    @Query("SELECT p FROM Project p WHERE p.id IN "
+            + "(SELECT p2.id FROM Project p2 JOIN p2.researchers r WHERE r.id = :researcherId)")
     List<Project> findByResearcherId(@Param("researcherId") Long researcherId);
+
+    @Query("SELECT t.project.id AS projectId, COUNT(t) AS taskCount FROM Task t "
+            + "WHERE t.project.id IN :projectIds GROUP BY t.project.id")
+    List<ProjectTaskCount> countTasksByProjectIds(@Param("projectIds") List<Long> projectIds);
 }
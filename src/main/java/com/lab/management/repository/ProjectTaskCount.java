@@ -0,0 +1,11 @@
+package com.lab.management.repository;
+
+/**
+ * Projection row for per-project task counts.
+ */
+public interface ProjectTaskCount {
+
+    Long getProjectId();
+
+    Long getTaskCount();
+}
@@ -0,0 +1,11 @@
+package com.lab.management.repository;
+
+/**
+ * Projection row for a single (researcher, research area) pair.
+ */
+public interface ResearchAreaAssignment {
+
+    Long getResearcherId();
+
+    String getResearchArea();
+}
@@ -2,10 +2,13 @@ package com.lab.management.repository;
 
 import com.lab.management.entity.Researcher;
 import com.lab.management.entity.ResearcherStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +19,13 @@ public interface ResearcherRepository extends JpaRepository<Researcher, Long> {
 
     Optional<Researcher> findByEmail(String email);
 
+    // Researcher.user is the inverse side of a one-to-one and is always loaded eagerly,
+    // so list queries join it up front instead of issuing one users lookup per row
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT r FROM Researcher r")
+    List<Researcher> findAllWithUser();
+
+    @EntityGraph(attributePaths = "user")
     List<Researcher> findByStatus(ResearcherStatus status);
 
     List<Researcher> findByStatusOrderByJoinDateDesc(ResearcherStatus status);
@@ -29,4 +39,8 @@ public interface ResearcherRepository extends JpaRepository<Researcher, Long> {
 
     @Query("SELECT COUNT(r) FROM Researcher r WHERE r.status = :status")
     long countByStatus(ResearcherStatus status);
+
+    @Query("SELECT r.id AS researcherId, a AS researchArea FROM Researcher r JOIN r.researchAreas a "
+            + "WHERE r.id IN :researcherIds")
+    List<ResearchAreaAssignment> findResearchAreasByResearcherIds(@Param("researcherIds") Collection<Long> researcherIds);
 }
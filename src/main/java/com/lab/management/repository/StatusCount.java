@@ -0,0 +1,13 @@
+package com.lab.management.repository;
+
+/**
+ * Projection row for grouped status counters: (category, status, total).
+ */
+public interface StatusCount {
+
+    String getCategory();
+
+    String getStatus();
+
+    Long getTotal();
+}
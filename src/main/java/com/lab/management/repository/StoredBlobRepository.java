@@ -0,0 +1,40 @@
+package com.lab.management.repository;
+
+import com.lab.management.entity.StoredBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface StoredBlobRepository extends JpaRepository<StoredBlob, String> {
+
+    // 참조 수 증가 (blob이 없으면 0 반환)
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredBlob b SET b.refCount = b.refCount + 1 WHERE b.name = :name")
+    int incrementRefCount(@Param("name") String name);
+
+    // 참조 수 1로 blob 행 생성 (다른 노드가 먼저 만들었으면 키 중복으로 DataIntegrityViolationException)
+    // save()는 merge라 동시에 만든 행의 참조 수를 1로 덮어쓸 수 있으므로 INSERT만 수행
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO stored_blobs (name, digest, size, ref_count, created_at, updated_at) "
+            + "VALUES (:name, :digest, :size, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+            nativeQuery = true)
+    int insertBlob(@Param("name") String name, @Param("digest") String digest, @Param("size") long size);
+
+    // 참조 수 감소 (blob이 없거나 이미 0이면 0 반환)
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredBlob b SET b.refCount = b.refCount - 1 WHERE b.name = :name AND b.refCount > 0")
+    int decrementRefCount(@Param("name") String name);
+
+    // 더 이상 참조되지 않는 blob 행 삭제 (삭제되었으면 1 반환)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM StoredBlob b WHERE b.name = :name AND b.refCount = 0")
+    int deleteIfUnreferenced(@Param("name") String name);
+}
@@ -0,0 +1,39 @@
+package com.lab.management.repository;
+
+import com.lab.management.entity.Grade;
+import com.lab.management.entity.ResearcherStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a task assignee (researcher columns keyed by task id).
+ */
+public interface TaskAssigneeSummary {
+
+    Long getTaskId();
+
+    Long getId();
+
+    String getName();
+
+    String getStudentId();
+
+    Grade getGrade();
+
+    Integer getAdmissionYear();
+
+    String getEmail();
+
+    String getPhone();
+
+    ResearcherStatus getStatus();
+
+    LocalDate getJoinDate();
+
+    String getPhotoUrl();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
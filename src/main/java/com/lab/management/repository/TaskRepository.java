@@ -8,11 +8,17 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    String TASK_SUMMARY_SELECT = "SELECT t.id AS id, t.name AS name, t.description AS description, "
+            + "t.status AS status, t.priority AS priority, t.dueDate AS dueDate, t.estimatedHours AS estimatedHours, "
+            + "p.id AS projectId, p.name AS projectName, t.createdAt AS createdAt, t.updatedAt AS updatedAt "
+            + "FROM Task t JOIN t.project p";
+
     List<Task> findByStatus(TaskStatus status);
 
     List<Task> findByProjectId(Long projectId);
@@ -20,6 +26,22 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT t FROM Task t JOIN t.assignees a WHERE a.id = :researcherId")
     List<Task> findByResearcherId(@Param("researcherId") Long researcherId);
 
+    // Read-only list projections (no managed entities)
+    @Query(TASK_SUMMARY_SELECT)
+    List<TaskSummary> findAllSummaries();
+
+    @Query(TASK_SUMMARY_SELECT + " WHERE p.id = :projectId")
+    List<TaskSummary> findSummariesByProjectId(@Param("projectId") Long projectId);
+
+    @Query(TASK_SUMMARY_SELECT + " WHERE t.id IN (SELECT t2.id FROM Task t2 JOIN t2.assignees a WHERE a.id = :researcherId)")
+    List<TaskSummary> findSummariesByResearcherId(@Param("researcherId") Long researcherId);
+
+    @Query("SELECT t.id AS taskId, a.id AS id, a.name AS name, a.studentId AS studentId, a.grade AS grade, "
+            + "a.admissionYear AS admissionYear, a.email AS email, a.phone AS phone, a.status AS status, "
+            + "a.joinDate AS joinDate, a.photoUrl AS photoUrl, a.createdAt AS createdAt, a.updatedAt AS updatedAt "
+            + "FROM Task t JOIN t.assignees a WHERE t.id IN :taskIds")
+    List<TaskAssigneeSummary> findAssigneeSummaries(@Param("taskIds") Collection<Long> taskIds);
+
     @Query("SELECT t FROM Task t WHERE t.dueDate <= :date AND t.status != 'DONE'")
     List<Task> findOverdueTasks(@Param("date") LocalDate date);
 
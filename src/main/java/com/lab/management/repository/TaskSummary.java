@@ -0,0 +1,35 @@
+package com.lab.management.repository;
+
+import com.lab.management.entity.Priority;
+import com.lab.management.entity.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a task row plus its project id/name, used by the task list endpoints.
+ */
+public interface TaskSummary {
+
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+
+    TaskStatus getStatus();
+
+    Priority getPriority();
+
+    LocalDate getDueDate();
+
+    Integer getEstimatedHours();
+
+    Long getProjectId();
+
+    String getProjectName();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,61 @@
+package com.lab.management.repository;
+
+import com.lab.management.entity.UploadSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    // 수신 오프셋을 expected에서 received로 전진 (다른 요청이 먼저 전진시켰으면 0 반환)
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.receivedSize = :received, s.updatedAt = :now " +
+           "WHERE s.id = :id AND s.receivedSize = :expected")
+    int advanceReceivedSize(@Param("id") String id,
+                            @Param("expected") long expected,
+                            @Param("received") long received,
+                            @Param("now") LocalDateTime now);
+
+    // 업로드 중인 세션을 완료 중으로 바꿔 게시 권한 획득 (다른 요청이나 노드가 먼저 가져갔으면 0 반환)
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.status = com.lab.management.entity.UploadSessionStatus.COMPLETING, " +
+           "s.updatedAt = :now WHERE s.id = :id AND s.status = com.lab.management.entity.UploadSessionStatus.UPLOADING")
+    int startCompleting(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    // 게시에 실패한 세션을 다시 업로드 중으로 (부분 파일은 남아 있으므로 완료를 재시도할 수 있음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.status = com.lab.management.entity.UploadSessionStatus.UPLOADING " +
+           "WHERE s.id = :id AND s.status = com.lab.management.entity.UploadSessionStatus.COMPLETING")
+    int resetToUploading(@Param("id") String id);
+
+    // 게시가 끝난 세션 행 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UploadSession s WHERE s.id = :id")
+    int deleteCompleted(@Param("id") String id);
+
+    // 업로드 중인 세션 행을 삭제해 폐기 권한 획득 (완료 중이거나 다른 요청이 먼저 가져갔으면 0 반환)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UploadSession s WHERE s.id = :id AND s.status = com.lab.management.entity.UploadSessionStatus.UPLOADING")
+    int claim(@Param("id") String id);
+
+    // 만료된 세션 행을 상태와 관계없이 삭제 (게시 도중 노드가 죽어 완료 중으로 남은 세션 포함)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UploadSession s WHERE s.id = :id AND s.updatedAt < :cutoff")
+    int claimExpired(@Param("id") String id, @Param("cutoff") LocalDateTime cutoff);
+
+    // 일정 시간 동안 청크가 들어오지 않은 세션
+    List<UploadSession> findByUpdatedAtBefore(LocalDateTime cutoff);
+}
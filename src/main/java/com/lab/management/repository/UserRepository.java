@@ -2,6 +2,8 @@ package com.lab.management.repository;
 
 import com.lab.management.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,4 +16,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
 
     Optional<User> findByResearcherId(Long researcherId);
+
+    // 활성 계정의 ID와 토큰 버전 (claims 기반 인증의 폐기 확인용)
+    @Query("SELECT u.id AS userId, u.tokenVersion AS tokenVersion FROM User u WHERE u.username = :username AND u.enabled = true")
+    Optional<AccountTokenVersion> findActiveTokenVersion(@Param("username") String username);
 }
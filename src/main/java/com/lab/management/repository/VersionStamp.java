@@ -0,0 +1,15 @@
+package com.lab.management.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection row for list validators: (source, total rows, latest modification).
+ */
+public interface VersionStamp {
+
+    String getSource();
+
+    Long getTotal();
+
+    LocalDateTime getLastModified();
+}
@@ -1,6 +1,8 @@
 package com.lab.management.security.jwt;
 
+import com.lab.management.security.service.TokenVersionService;
 import com.lab.management.security.service.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,8 +10,11 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -17,6 +22,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collections;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -29,20 +35,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
+    @Value("${jwt.claims-auth-enabled:true}")
+    private boolean claimsAuthEnabled;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUsernameFromJwtToken(jwt);
+            Claims claims = jwt != null ? jwtUtils.parseValidClaims(jwt).orElse(null) : null;
+            if (claims != null) {
+                UserDetails userDetails = claimsAuthEnabled && claims.get(JwtUtils.CLAIM_ROLE) != null
+                        ? userDetailsFromClaims(claims)
+                        : userDetailsService.loadUserByUsername(claims.getSubject());
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                if (userDetails != null) {
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            userDetails, null, userDetails.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (Exception e) {
             logger.error("Cannot set user authentication: {}", e.getMessage());
@@ -51,6 +67,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // 계정 ID와 토큰 버전이 현재 계정과 같을 때만 클레임으로 인증 (캐시 조회, 불일치 시 인증하지 않음)
+    private UserDetails userDetailsFromClaims(Claims claims) {
+        String username = claims.getSubject();
+        Long userId = claims.get(JwtUtils.CLAIM_USER_ID, Long.class);
+        Integer tokenVersion = claims.get(JwtUtils.CLAIM_TOKEN_VERSION, Integer.class);
+        boolean current = userId != null && tokenVersion != null && tokenVersionService.getActiveTokenVersion(username)
+                .map(account -> userId.equals(account.getUserId()) && tokenVersion.equals(account.getTokenVersion()))
+                .orElse(false);
+        if (!current) {
+            logger.debug("Rejected revoked JWT for user: {}", username);
+            return null;
+        }
+
+        String role = claims.get(JwtUtils.CLAIM_ROLE, String.class);
+        return new User(username, "", Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
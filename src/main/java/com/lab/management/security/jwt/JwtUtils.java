@@ -1,7 +1,9 @@
 package com.lab.management.security.jwt;
 
+import com.lab.management.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,17 +14,30 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_RESEARCHER_ID = "researcherId";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+    public static final String CLAIM_USER_ID = "uid";
 
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
+    private final long jwtExpiration;
+
+    // Key and parser are immutable and thread-safe; build them once instead of per request
+    private final SecretKey key;
+    private final JwtParser jwtParser;
+
+    public JwtUtils(@Value("${jwt.secret}") String jwtSecret,
+                    @Value("${jwt.expiration}") long jwtExpiration) {
+        this.jwtExpiration = jwtExpiration;
+        this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(key).build();
+    }
 
     public String generateJwtToken(Authentication authentication) {
         UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
@@ -33,8 +48,6 @@ public class JwtUtils {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-
         return Jwts.builder()
                 .subject(username)
                 .issuedAt(now)
@@ -43,31 +56,50 @@ public class JwtUtils {
                 .compact();
     }
 
-    public String getUsernameFromJwtToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+    // 필터가 DB 조회 없이 인증할 수 있도록 역할/계정 ID/연구자 ID/토큰 버전을 클레임으로 포함
+    public String generateTokenForUser(User user) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + jwtExpiration);
+
+        JwtBuilder builder = Jwts.builder()
+                .subject(user.getUsername())
+                .claim(CLAIM_ROLE, user.getRole().name())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion());
+        if (user.getResearcher() != null) {
+            builder.claim(CLAIM_RESEARCHER_ID, user.getResearcher().getId());
+        }
+
+        return builder
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(key)
+                .compact();
     }
 
-    public boolean validateJwtToken(String authToken) {
+    // 서명/만료 검증과 클레임 추출을 한 번의 파싱으로 처리
+    public Optional<Claims> parseValidClaims(String token) {
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(authToken);
-            return true;
+            return Optional.of(jwtParser.parseSignedClaims(token).getPayload());
         } catch (MalformedJwtException e) {
             logger.error("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
             logger.error("JWT token is expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
             logger.error("JWT token is unsupported: {}", e.getMessage());
+        } catch (SecurityException e) {
+            logger.error("Invalid JWT signature: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             logger.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    public String getUsernameFromJwtToken(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    public boolean validateJwtToken(String authToken) {
+        return parseValidClaims(authToken).isPresent();
     }
 }
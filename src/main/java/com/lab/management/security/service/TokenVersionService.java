@@ -0,0 +1,38 @@
+package com.lab.management.security.service;
+
+import com.lab.management.config.CacheConfig;
+import com.lab.management.event.UserAccountChangedEvent;
+import com.lab.management.repository.AccountTokenVersion;
+import com.lab.management.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * Account id and current token version of each active account, used to revoke claims-based JWTs
+ * without a per-request query. The id is checked as well because versions start at 0 for every
+ * account, so a token issued to a deleted or renamed account must not pass for a new account that
+ * later takes the same username. Entries are evicted after commit by {@link UserAccountChangedEvent}s; the
+ * cache TTL bounds how long a change made outside the account services can go unnoticed.
+ */
+@Service
+@RequiredArgsConstructor
+public class TokenVersionService {
+
+    private final UserRepository userRepository;
+
+    // 비활성/삭제된 계정은 빈 값 (캐시에도 그대로 저장됨)
+    @Cacheable(cacheNames = CacheConfig.TOKEN_VERSIONS, key = "#username")
+    public Optional<AccountTokenVersion> getActiveTokenVersion(String username) {
+        return userRepository.findActiveTokenVersion(username);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = CacheConfig.TOKEN_VERSIONS, key = "#event.username")
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+    }
+}
@@ -1,31 +1,95 @@
 package com.lab.management.security.service;
 
+import com.lab.management.config.CacheConfig;
 import com.lab.management.entity.User;
+import com.lab.management.event.UserAccountChangedEvent;
 import com.lab.management.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Loads accounts for DB-backed authentication (login and tokens without claims), fronted by the
+ * size/TTL-bounded {@link CacheConfig#USER_DETAILS} cache, and stores hashes upgraded on login. Entries are evicted after commit by
+ * {@link UserAccountChangedEvent}s; the TTL bounds staleness for changes made elsewhere. Hits
+ * touch neither the database nor a transaction. Misses read the row outside the cache (a loader
+ * would run the query inside Caffeine's per-key compute, whose bin lock pins a virtual thread's
+ * carrier for the whole query) and drop what they put if an eviction arrived meanwhile, so a
+ * stale row read before a change cannot outlive that change's eviction.
+ */
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // 무효화 때마다 증가, 조회 도중 바뀌었으면 그 조회 결과는 캐시에 남기지 않음
+    private final AtomicLong evictions = new AtomicLong();
+
+    // 캐시 적중 시에는 트랜잭션/DB 접근 없음, 미스일 때만 조회
+    // 조회는 캐시 밖에서 (compute 안에서 쿼리하면 가상 스레드가 캐리어에 고정됨), 저장 후 그 사이 무효화가 있었으면 다시 제거
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+        Cache cache = cacheManager.getCache(CacheConfig.USER_DETAILS);
+        UserDetails cached = cache.get(username, UserDetails.class);
+        if (cached == null) {
+            long seen = evictions.get();
+            cached = toUserDetails(userRepository.findByUsername(username)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username)));
+            cache.put(username, cached);
+            if (evictions.get() != seen) {
+                cache.evict(username);
+            }
+        }
+
+        // 인증 후 자격 증명이 지워지므로 (eraseCredentials) 캐시된 객체 대신 복사본을 반환
+        return org.springframework.security.core.userdetails.User.withUserDetails(cached).build();
+    }
+
+    // 로그인 성공 시 낮은 cost의 해시를 현재 cost로 재해싱한 값을 저장 (토큰 버전은 유지)
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getUsername()));
+
+        return org.springframework.security.core.userdetails.User.withUserDetails(userDetails)
+                .password(newPassword)
+                .build();
+    }
+
+    // 본문(카운터 증가)이 끝난 뒤 캐시 제거 -> 진행 중인 조회는 저장 후 카운터 변화를 보고 스스로 제거함
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = CacheConfig.USER_DETAILS, key = "#event.username")
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        evictions.incrementAndGet();
+    }
 
+    private UserDetails toUserDetails(User user) {
         return new org.springframework.security.core.userdetails.User(
                 user.getUsername(),
                 user.getPassword(),
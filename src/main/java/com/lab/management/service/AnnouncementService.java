@@ -1,10 +1,16 @@
 package com.lab.management.service;
 
+import com.lab.management.config.CacheConfig;
 import com.lab.management.dto.AnnouncementRequest;
 import com.lab.management.dto.AnnouncementResponse;
 import com.lab.management.entity.Announcement;
+import com.lab.management.entity.SearchDocumentType;
+import com.lab.management.event.SearchDocumentEvent;
 import com.lab.management.repository.AnnouncementRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +23,7 @@ import java.util.stream.Collectors;
 public class AnnouncementService {
 
     private final AnnouncementRepository announcementRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<AnnouncementResponse> getAllAnnouncements() {
         return announcementRepository.findAllByOrderByCreatedAtDesc().stream()
@@ -24,12 +31,14 @@ public class AnnouncementService {
                 .collect(Collectors.toList());
     }
 
+    @Cacheable(cacheNames = CacheConfig.PUBLIC_ANNOUNCEMENTS, key = "'public'")
     public List<AnnouncementResponse> getPublicAnnouncements() {
         return announcementRepository.findByIsPublicTrueOrderByCreatedAtDesc().stream()
                 .map(AnnouncementResponse::from)
                 .collect(Collectors.toList());
     }
 
+    @Cacheable(cacheNames = CacheConfig.PUBLIC_ANNOUNCEMENTS, key = "'important'")
     public List<AnnouncementResponse> getImportantAnnouncements() {
         return announcementRepository.findByIsImportantTrueAndIsPublicTrueOrderByCreatedAtDesc().stream()
                 .map(AnnouncementResponse::from)
@@ -43,6 +52,7 @@ public class AnnouncementService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_ANNOUNCEMENTS, allEntries = true)
     public AnnouncementResponse createAnnouncement(AnnouncementRequest request) {
         Announcement announcement = Announcement.builder()
                 .title(request.getTitle())
@@ -52,10 +62,12 @@ public class AnnouncementService {
                 .build();
 
         Announcement saved = announcementRepository.save(announcement);
+        eventPublisher.publishEvent(SearchDocumentEvent.saved(saved));
         return AnnouncementResponse.from(saved);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_ANNOUNCEMENTS, allEntries = true)
     public AnnouncementResponse updateAnnouncement(Long id, AnnouncementRequest request) {
         Announcement announcement = announcementRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Announcement not found with id: " + id));
@@ -65,14 +77,17 @@ public class AnnouncementService {
         announcement.setIsImportant(request.getIsImportant());
         announcement.setIsPublic(request.getIsPublic());
 
+        eventPublisher.publishEvent(SearchDocumentEvent.saved(announcement));
         return AnnouncementResponse.from(announcement);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_ANNOUNCEMENTS, allEntries = true)
     public void deleteAnnouncement(Long id) {
         if (!announcementRepository.existsById(id)) {
             throw new RuntimeException("Announcement not found with id: " + id);
         }
         announcementRepository.deleteById(id);
+        eventPublisher.publishEvent(SearchDocumentEvent.deleted(SearchDocumentType.ANNOUNCEMENT, id));
     }
 }
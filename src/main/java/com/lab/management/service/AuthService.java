@@ -1,17 +1,21 @@
 package com.lab.management.service;
 
+import com.lab.management.config.CacheConfig;
 import com.lab.management.dto.request.LoginRequest;
 import com.lab.management.dto.request.RegisterRequest;
 import com.lab.management.dto.response.JwtResponse;
 import com.lab.management.entity.Researcher;
 import com.lab.management.entity.Role;
 import com.lab.management.entity.User;
+import com.lab.management.event.UserAccountChangedEvent;
 import com.lab.management.exception.ResourceAlreadyExistsException;
 import com.lab.management.exception.ResourceNotFoundException;
 import com.lab.management.repository.ResearcherRepository;
 import com.lab.management.repository.UserRepository;
 import com.lab.management.security.jwt.JwtUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -30,6 +34,7 @@ public class AuthService {
     private final ResearcherRepository researcherRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtils jwtUtils;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public JwtResponse login(LoginRequest loginRequest) {
@@ -37,7 +42,6 @@ public class AuthService {
                 new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()));
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        String jwt = jwtUtils.generateJwtToken(authentication);
 
         org.springframework.security.core.userdetails.User userDetails =
                 (org.springframework.security.core.userdetails.User) authentication.getPrincipal();
@@ -50,12 +54,14 @@ public class AuthService {
         User user = userRepository.findByUsername(userDetails.getUsername())
                 .orElseThrow(() -> new ResourceNotFoundException("User", "username", userDetails.getUsername()));
 
+        String jwt = jwtUtils.generateTokenForUser(user);
         Long researcherId = user.getResearcher() != null ? user.getResearcher().getId() : null;
 
         return new JwtResponse(jwt, userDetails.getUsername(), role, researcherId);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_RESEARCHERS, allEntries = true)
     public JwtResponse register(RegisterRequest registerRequest) {
         // Check if username already exists
         if (userRepository.existsByUsername(registerRequest.getUsername())) {
@@ -78,12 +84,13 @@ public class AuthService {
         }
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(savedUser.getUsername()));
 
         // Auto-login after registration
-        Authentication authentication = authenticationManager.authenticate(
+        authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(registerRequest.getUsername(), registerRequest.getPassword()));
 
-        String jwt = jwtUtils.generateJwtToken(authentication);
+        String jwt = jwtUtils.generateTokenForUser(savedUser);
         Long researcherId = savedUser.getResearcher() != null ? savedUser.getResearcher().getId() : null;
 
         return new JwtResponse(jwt, savedUser.getUsername(), savedUser.getRole().name(), researcherId);
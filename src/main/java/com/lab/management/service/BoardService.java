@@ -1,26 +1,39 @@
 package com.lab.management.service;
 
+import com.lab.management.config.CacheConfig;
 import com.lab.management.dto.BoardCommentDTO;
 import com.lab.management.dto.BoardDTO;
 import com.lab.management.dto.CreateBoardRequest;
 import com.lab.management.dto.CreateCommentRequest;
+import com.lab.management.dto.response.CursorPage;
+import com.lab.management.dto.response.SearchResultResponse;
 import com.lab.management.entity.Board;
 import com.lab.management.entity.BoardComment;
 import com.lab.management.entity.Researcher;
+import com.lab.management.entity.SearchDocumentType;
 import com.lab.management.entity.User;
+import com.lab.management.event.SearchDocumentEvent;
 import com.lab.management.exception.ResourceNotFoundException;
 import com.lab.management.repository.BoardCommentRepository;
 import com.lab.management.repository.BoardRepository;
 import com.lab.management.repository.ResearcherRepository;
 import com.lab.management.repository.UserRepository;
+import com.lab.management.util.CreatedAtCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,9 +44,13 @@ public class BoardService {
     private final BoardCommentRepository boardCommentRepository;
     private final ResearcherRepository researcherRepository;
     private final UserRepository userRepository;
+    private final BoardViewCounter boardViewCounter;
+    private final SearchIndexService searchIndexService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 공개 게시글 목록 조회 (페이징)
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PUBLIC_BOARDS, key = "#page + ':' + #size")
     public Page<BoardDTO> getPublicBoards(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         Page<Board> boardPage = boardRepository.findByIsPublicTrue(pageable);
@@ -48,21 +65,49 @@ public class BoardService {
         return boardPage.map(this::convertToDTO);
     }
 
-    // 게시글 상세 조회 (조회수 증가)
-    @Transactional
+    // 모든 게시글 목록 조회 (커서 페이징, COUNT 쿼리 없음)
+    @Transactional(readOnly = true)
+    public CursorPage<BoardDTO> getBoardsByCursor(String cursor, int size) {
+        Pageable pageable = PageRequest.ofSize(size + 1);
+        List<Board> boards;
+        if (cursor == null || cursor.isBlank()) {
+            boards = boardRepository.findAllByOrderByCreatedAtDescIdDesc(pageable);
+        } else {
+            CreatedAtCursor position = CreatedAtCursor.decode(cursor);
+            boards = boardRepository.findPageAfter(position.getCreatedAt(), position.getId(), pageable);
+        }
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        boolean hasNext = boards.size() > size;
+        String nextCursor = null;
+        if (hasNext) {
+            boards = boards.subList(0, size);
+            Board last = boards.get(size - 1);
+            nextCursor = new CreatedAtCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<BoardDTO> content = boards.stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
+    // 게시글 상세 조회 (조회수 증가는 BoardViewCounter에 버퍼링)
+    @Transactional(readOnly = true)
     public BoardDTO getBoardById(Long id) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Board", "id", id));
 
-        // 조회수 증가
-        board.setViewCount(board.getViewCount() + 1);
-        boardRepository.save(board);
+        boardViewCounter.increment(id);
 
-        return convertToDTO(board);
+        BoardDTO dto = convertToDTO(board);
+        dto.setViewCount((int) (board.getViewCount() + boardViewCounter.pendingCount(id)));
+        return dto;
     }
 
     // 게시글 작성 (모든 멤버 가능)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_BOARDS, allEntries = true)
     public BoardDTO createBoard(CreateBoardRequest request, String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
@@ -85,11 +130,13 @@ public class BoardService {
                 .build();
 
         Board savedBoard = boardRepository.save(board);
+        eventPublisher.publishEvent(SearchDocumentEvent.saved(savedBoard));
         return convertToDTO(savedBoard);
     }
 
     // 게시글 수정 (작성자 본인만)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_BOARDS, allEntries = true)
     public BoardDTO updateBoard(Long id, CreateBoardRequest request, String username) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Board", "id", id));
@@ -116,11 +163,13 @@ public class BoardService {
         board.setAttachments(request.getAttachments());
 
         Board updatedBoard = boardRepository.save(board);
+        eventPublisher.publishEvent(SearchDocumentEvent.saved(updatedBoard));
         return convertToDTO(updatedBoard);
     }
 
     // 게시글 삭제 (작성자 본인만)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_BOARDS, allEntries = true)
     public void deleteBoard(Long id, String username) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Board", "id", id));
@@ -139,10 +188,13 @@ public class BoardService {
         }
 
         boardRepository.delete(board);
+        boardViewCounter.discard(board.getId());
+        eventPublisher.publishEvent(SearchDocumentEvent.deleted(SearchDocumentType.BOARD, board.getId()));
     }
 
     // 관리자용 게시글 수정 (작성자 확인 없음)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_BOARDS, allEntries = true)
     public BoardDTO updateBoardByAdmin(Long id, CreateBoardRequest request) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Board", "id", id));
@@ -156,23 +208,36 @@ public class BoardService {
         board.setAttachments(request.getAttachments());
 
         Board updatedBoard = boardRepository.save(board);
+        eventPublisher.publishEvent(SearchDocumentEvent.saved(updatedBoard));
         return convertToDTO(updatedBoard);
     }
 
     // 관리자용 게시글 삭제 (작성자 확인 없음)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_BOARDS, allEntries = true)
     public void deleteBoardByAdmin(Long id) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Board", "id", id));
         boardRepository.delete(board);
+        boardViewCounter.discard(board.getId());
+        eventPublisher.publishEvent(SearchDocumentEvent.deleted(SearchDocumentType.BOARD, board.getId()));
     }
 
-    // 게시글 검색
+    // 게시글 검색 (검색 인덱스에서 제목/본문 관련도순으로 조회)
     @Transactional(readOnly = true)
     public Page<BoardDTO> searchBoards(String keyword, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Board> boardPage = boardRepository.findByTitleContainingOrderByCreatedAtDesc(keyword, pageable);
-        return boardPage.map(this::convertToDTO);
+        Page<SearchResultResponse> hits = searchIndexService.search(keyword, SearchDocumentType.BOARD, page, size);
+        List<Long> ids = hits.map(SearchResultResponse::getId).getContent();
+
+        Map<Long, Board> boards = boardRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Board::getId, Function.identity()));
+        // 관련도 순서 유지, 인덱스 반영 전에 삭제된 게시글은 제외
+        List<BoardDTO> content = ids.stream()
+                .map(boards::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, hits.getPageable(), hits.getTotalElements());
     }
 
     // 특정 게시글의 댓글 조회
@@ -186,6 +251,7 @@ public class BoardService {
 
     // 댓글 작성
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_BOARDS, allEntries = true)
     public BoardCommentDTO createComment(Long boardId, CreateCommentRequest request, String username) {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new ResourceNotFoundException("Board", "id", boardId));
@@ -205,6 +271,7 @@ public class BoardService {
                 .build();
 
         BoardComment savedComment = boardCommentRepository.save(comment);
+        boardRepository.addCommentCount(boardId, 1);
         return convertCommentToDTO(savedComment);
     }
 
@@ -234,6 +301,7 @@ public class BoardService {
 
     // 댓글 삭제
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_BOARDS, allEntries = true)
     public void deleteComment(Long commentId, String username) {
         BoardComment comment = boardCommentRepository.findById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("BoardComment", "id", commentId));
@@ -252,14 +320,17 @@ public class BoardService {
         }
 
         boardCommentRepository.delete(comment);
+        boardRepository.addCommentCount(comment.getBoard().getId(), -1);
     }
 
     // 관리자용 댓글 삭제 (작성자 확인 없음)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_BOARDS, allEntries = true)
     public void deleteCommentByAdmin(Long commentId) {
         BoardComment comment = boardCommentRepository.findById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("BoardComment", "id", commentId));
         boardCommentRepository.delete(comment);
+        boardRepository.addCommentCount(comment.getBoard().getId(), -1);
     }
 
     // Entity to DTO (Board)
@@ -276,7 +347,7 @@ public class BoardService {
         dto.setAuthorId(board.getAuthor().getId());
         dto.setAuthorName(board.getAuthor().getName());
         dto.setViewCount(board.getViewCount());
-        dto.setCommentCount(board.getComments().size());
+        dto.setCommentCount(board.getCommentCount());
         dto.setCreatedAt(board.getCreatedAt());
         dto.setUpdatedAt(board.getUpdatedAt());
         return dto;
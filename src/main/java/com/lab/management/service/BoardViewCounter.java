@@ -0,0 +1,75 @@
+package com.lab.management.service;
+
+import com.lab.management.repository.BoardRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind buffer for board view counts.
+ *
+ * Detail views only bump a per-board {@link LongAdder}; a scheduled flush drains the buffered
+ * deltas into one batch of {@code view_count = view_count + ?} updates, so reads never lock the
+ * board row and concurrent views are never lost to a read-modify-write. Deltas that fail to
+ * flush are put back, and the buffer is drained once more on shutdown.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardViewCounter {
+
+    private final BoardRepository boardRepository;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void increment(Long boardId) {
+        pending.computeIfAbsent(boardId, key -> new LongAdder()).increment();
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public long pendingCount(Long boardId) {
+        LongAdder adder = pending.get(boardId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        // Adders stay in the map: removing one could drop an increment racing with the removal
+        pending.forEach((boardId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(boardId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            boardRepository.addViewCounts(deltas);
+            log.debug("Flushed view counts for {} boards", deltas.size());
+        } catch (RuntimeException e) {
+            deltas.forEach((boardId, delta) -> pending.computeIfAbsent(boardId, key -> new LongAdder()).add(delta));
+            log.warn("Failed to flush view counts for {} boards, will retry", deltas.size(), e);
+        }
+    }
+
+    // 게시글 삭제 시 남은 증분 제거
+    public void discard(Long boardId) {
+        pending.remove(boardId);
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+        log.info("Board view counts drained");
+    }
+}
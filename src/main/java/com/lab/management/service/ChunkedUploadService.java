@@ -0,0 +1,288 @@
+package com.lab.management.service;
+
+import com.lab.management.dto.request.UploadSessionRequest;
+import com.lab.management.dto.response.UploadSessionResponse;
+import com.lab.management.entity.UploadSession;
+import com.lab.management.exception.InvalidUploadException;
+import com.lab.management.exception.ResourceNotFoundException;
+import com.lab.management.exception.UploadOffsetConflictException;
+import com.lab.management.repository.UploadSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resumable chunked uploads (init, PUT chunk at offset, complete).
+ *
+ * Each chunk is streamed from the request body straight into the session's part file through a
+ * fixed buffer while its SHA-256 is computed, so memory use does not depend on the file size and
+ * every byte is written once; completion hands the part file to {@link FileStorageService}, which
+ * hashes it and renames it into content-addressed storage. A chunk whose
+ * checksum does not match, or whose connection drops, is truncated away and the session offset is
+ * left unchanged so the client can resend it. No transaction is held while a chunk is written.
+ * Completion claims the session by switching its row from {@code UPLOADING} to
+ * {@code COMPLETING}, and abort claims an uploading session by deleting its row; only the request
+ * that made the change touches the part file, so a retried or concurrent completion (on any node)
+ * cannot publish it twice or race its deletion. The row is deleted once the file is published; if
+ * publishing fails (a storage or rename error) the part file is kept and the row goes back to
+ * {@code UPLOADING}, so the client can call complete again instead of resending the upload. Expiry
+ * removes any row older than {@code expire-after}, including one left {@code COMPLETING} by a node
+ * that died while publishing.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkedUploadService {
+
+    private static final String INCOMING_DIR = ".incoming";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final FileStorageService fileStorageService;
+
+    // 같은 세션에 대한 동시 청크 쓰기 방지
+    private final Map<String, ReentrantLock> sessionLocks = new ConcurrentHashMap<>();
+
+    @Value("${file.upload-dir:uploads}")
+    private String uploadDir;
+
+    @Value("${file.upload-session.max-size:1GB}")
+    private DataSize maxSize;
+
+    @Value("${file.upload-session.expire-after:24h}")
+    private Duration expireAfter;
+
+    public UploadSessionResponse startSession(UploadSessionRequest request) {
+        if (request.getSize() > maxSize.toBytes()) {
+            throw new InvalidUploadException("File size cannot exceed " + maxSize.toMegabytes() + "MB");
+        }
+
+        String originalName = StringUtils.getFilename(StringUtils.cleanPath(request.getFilename()));
+        UploadSession session = UploadSession.builder()
+                .id(UUID.randomUUID().toString())
+                .originalName(originalName)
+                .totalSize(request.getSize())
+                .build();
+
+        try {
+            Files.createDirectories(incomingPath());
+            Files.deleteIfExists(partPath(session.getId()));
+            Files.createFile(partPath(session.getId()));
+        } catch (IOException e) {
+            log.error("Failed to create upload part file for {}", originalName, e);
+            throw new RuntimeException("Failed to start upload", e);
+        }
+
+        uploadSessionRepository.save(session);
+        log.info("Started upload {} for {} ({} bytes)", session.getId(), originalName, session.getTotalSize());
+        return toResponse(session, null);
+    }
+
+    public UploadSessionResponse getSession(String uploadId) {
+        return toResponse(findSession(uploadId), null);
+    }
+
+    // 청크를 오프셋 위치에 이어 쓰고 체크섬 검증 후 오프셋 전진
+    public UploadSessionResponse appendChunk(String uploadId, long offset, String sha256Hex, InputStream body) {
+        if (!uploadSessionRepository.existsById(uploadId)) {
+            throw new ResourceNotFoundException("Upload session", "id", uploadId);
+        }
+        ReentrantLock lock = sessionLocks.computeIfAbsent(uploadId, id -> new ReentrantLock());
+        if (!lock.tryLock()) {
+            throw new UploadOffsetConflictException(uploadId, offset);
+        }
+        try {
+            UploadSession session = findSession(uploadId);
+            if (offset != session.getReceivedSize()) {
+                throw new UploadOffsetConflictException(uploadId, session.getReceivedSize());
+            }
+
+            long written = writeChunk(partPath(uploadId), offset, session.getTotalSize() - offset, sha256Hex, body);
+            if (uploadSessionRepository.advanceReceivedSize(uploadId, offset, offset + written, LocalDateTime.now()) == 0) {
+                throw new UploadOffsetConflictException(uploadId, findSession(uploadId).getReceivedSize());
+            }
+            session.setReceivedSize(offset + written);
+            log.debug("Upload {}: {} / {} bytes", uploadId, session.getReceivedSize(), session.getTotalSize());
+            return toResponse(session, null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 세션을 완료 중으로 바꾼 요청만 게시 (동시/재시도 완료가 같은 부분 파일을 두 번 게시하지 않도록)
+    // 게시에 실패하면 부분 파일을 남기고 업로드 중으로 되돌려 완료를 다시 시도할 수 있게 함
+    public UploadSessionResponse complete(String uploadId) {
+        if (!uploadSessionRepository.existsById(uploadId)) {
+            throw new ResourceNotFoundException("Upload session", "id", uploadId);
+        }
+        ReentrantLock lock = sessionLocks.computeIfAbsent(uploadId, id -> new ReentrantLock());
+        if (!lock.tryLock()) {
+            throw new UploadOffsetConflictException(uploadId, findSession(uploadId).getReceivedSize());
+        }
+        UploadSession session;
+        String fileUrl;
+        try {
+            session = findSession(uploadId);
+            if (!session.getReceivedSize().equals(session.getTotalSize())) {
+                throw new InvalidUploadException(String.format("Upload is incomplete: received %d of %d bytes",
+                        session.getReceivedSize(), session.getTotalSize()));
+            }
+            if (uploadSessionRepository.startCompleting(uploadId, LocalDateTime.now()) == 0) {
+                throw claimConflict(uploadId, session);
+            }
+
+            try {
+                fileUrl = fileStorageService.storeExistingFile(partPath(uploadId), session.getOriginalName(),
+                        session.getTotalSize());
+            } catch (IOException | RuntimeException e) {
+                uploadSessionRepository.resetToUploading(uploadId);
+                log.error("Failed to publish upload {}, keeping it for another completion attempt", uploadId, e);
+                if (e instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new RuntimeException("Failed to complete upload", e);
+            }
+            uploadSessionRepository.deleteCompleted(uploadId);
+        } finally {
+            lock.unlock();
+        }
+        sessionLocks.remove(uploadId);
+
+        log.info("Upload {} completed: {} -> {}", uploadId, session.getOriginalName(), fileUrl);
+        return toResponse(session, fileUrl);
+    }
+
+    public void abort(String uploadId) {
+        UploadSession session = findSession(uploadId);
+        if (uploadSessionRepository.claim(uploadId) == 0) {
+            throw claimConflict(uploadId, session);
+        }
+        deletePart(uploadId);
+    }
+
+    // 만료된 세션과 부분 파일 정리
+    @Scheduled(fixedDelayString = "${file.upload-session.cleanup-interval-ms:3600000}")
+    public void purgeExpiredSessions() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(expireAfter);
+        for (UploadSession session : uploadSessionRepository.findByUpdatedAtBefore(cutoff)) {
+            if (uploadSessionRepository.claimExpired(session.getId(), cutoff) == 0) {
+                continue;
+            }
+            deletePart(session.getId());
+            log.info("Purged abandoned upload {} ({} of {} bytes)",
+                    session.getId(), session.getReceivedSize(), session.getTotalSize());
+        }
+    }
+
+    private long writeChunk(Path part, long offset, long remaining, String sha256Hex, InputStream body) {
+        MessageDigest digest = sha256();
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(part, StandardOpenOption.WRITE)) {
+            channel.position(offset);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                written += read;
+                if (written > remaining) {
+                    throw new InvalidUploadException("Chunk exceeds the declared file size");
+                }
+                digest.update(buffer, 0, read);
+                wrapped.clear().limit(read);
+                while (wrapped.hasRemaining()) {
+                    channel.write(wrapped);
+                }
+            }
+            if (!HexFormat.of().formatHex(digest.digest()).equalsIgnoreCase(sha256Hex)) {
+                throw new InvalidUploadException("Chunk checksum mismatch");
+            }
+            return written;
+        } catch (IOException | RuntimeException e) {
+            truncate(part, offset);
+            if (e instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            log.warn("Chunk write interrupted at offset {}: {}", offset, e.getMessage());
+            throw new RuntimeException("Failed to write upload chunk", e);
+        }
+    }
+
+    private void truncate(Path part, long size) {
+        try (FileChannel channel = FileChannel.open(part, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        } catch (IOException e) {
+            log.error("Failed to truncate {} to {} bytes", part, size, e);
+        }
+    }
+
+    // 세션 행을 가져온 뒤에만 호출 (완료 중인 세션의 파일을 지우지 않도록)
+    private void deletePart(String uploadId) {
+        try {
+            Files.deleteIfExists(partPath(uploadId));
+        } catch (IOException e) {
+            log.error("Failed to delete part file of upload {}", uploadId, e);
+        }
+        sessionLocks.remove(uploadId);
+    }
+
+    // 다른 요청이 세션을 먼저 가져감: 아직 있으면 완료 중이므로 409, 없으면 404
+    private RuntimeException claimConflict(String uploadId, UploadSession session) {
+        if (uploadSessionRepository.existsById(uploadId)) {
+            return new UploadOffsetConflictException(uploadId, session.getReceivedSize());
+        }
+        return new ResourceNotFoundException("Upload session", "id", uploadId);
+    }
+
+    private UploadSession findSession(String uploadId) {
+        return uploadSessionRepository.findById(uploadId)
+                .orElseThrow(() -> new ResourceNotFoundException("Upload session", "id", uploadId));
+    }
+
+    private Path incomingPath() {
+        return Paths.get(uploadDir).toAbsolutePath().resolve(INCOMING_DIR);
+    }
+
+    private Path partPath(String uploadId) {
+        return incomingPath().resolve(uploadId + ".part");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private UploadSessionResponse toResponse(UploadSession session, String fileUrl) {
+        return UploadSessionResponse.builder()
+                .uploadId(session.getId())
+                .originalName(session.getOriginalName())
+                .size(session.getTotalSize())
+                .offset(session.getReceivedSize())
+                .fileUrl(fileUrl)
+                .build();
+    }
+}
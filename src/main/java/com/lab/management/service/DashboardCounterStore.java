@@ -0,0 +1,167 @@
+package com.lab.management.service;
+
+import com.lab.management.entity.ProjectStatus;
+import com.lab.management.entity.ResearcherStatus;
+import com.lab.management.entity.TaskStatus;
+import com.lab.management.event.StatusChangedEvent;
+import com.lab.management.repository.DashboardRepository;
+import com.lab.management.repository.StatusCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory per-status counters backing the admin dashboard.
+ *
+ * Seeded from the database once the application is ready, then kept current by
+ * {@link StatusChangedEvent}s applied after commit. A periodic reconciliation re-reads the
+ * grouped counts and corrects any drift (bulk writes, rows changed outside the services).
+ *
+ * Reconciliation must not run between a change's commit and the application of its event:
+ * the snapshot would already contain the change and the event would count it a second time,
+ * or a change committed after the snapshot would be corrected away. Each transaction carrying
+ * an event therefore holds the read side of {@link #applyLock} from just before its commit
+ * until its events are applied, and reconciliation takes the write side around its query and
+ * correction, so every committed change is either in the snapshot and already applied, or in
+ * neither.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardCounterStore {
+
+    private static final List<Class<? extends Enum<?>>> TRACKED_TYPES =
+            List.of(ResearcherStatus.class, ProjectStatus.class, TaskStatus.class);
+
+    private final DashboardRepository dashboardRepository;
+
+    private final Map<Enum<?>, LongAdder> counters = new ConcurrentHashMap<>();
+
+    // 읽기: 커밋 직전부터 이벤트 반영까지 (동시 다수) / 쓰기: 재집계 (단독)
+    private final ReentrantReadWriteLock applyLock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+        log.info("Dashboard counters seeded");
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.counters.reconcile-interval-ms:300000}",
+            initialDelayString = "${dashboard.counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        applyLock.writeLock().lock();
+        try {
+            Map<Enum<?>, Long> actual = new HashMap<>();
+            for (StatusCount row : dashboardRepository.countAllByStatus()) {
+                actual.put(toStatus(row.getCategory(), row.getStatus()), row.getTotal());
+            }
+
+            for (Class<? extends Enum<?>> type : TRACKED_TYPES) {
+                for (Enum<?> status : type.getEnumConstants()) {
+                    LongAdder adder = counter(status);
+                    long drift = actual.getOrDefault(status, 0L) - adder.sum();
+                    if (drift != 0) {
+                        adder.add(drift);
+                        log.debug("Corrected dashboard counter {}.{} by {}", type.getSimpleName(), status, drift);
+                    }
+                }
+            }
+        } finally {
+            applyLock.writeLock().unlock();
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 직전에 읽기 락을 잡고 커밋 후 반영하면서 해제, 밖이면 바로 반영
+    @EventListener
+    public void onStatusChanged(StatusChangedEvent event) {
+        if (event.isNoop()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyLock.readLock().lock();
+            try {
+                apply(event);
+            } finally {
+                applyLock.readLock().unlock();
+            }
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean locked;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                applyLock.readLock().lock();
+                locked = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        apply(event);
+                    }
+                } finally {
+                    if (locked) {
+                        applyLock.readLock().unlock();
+                    }
+                }
+            }
+        });
+    }
+
+    private void apply(StatusChangedEvent event) {
+        if (event.getPreviousStatus() != null) {
+            counter(event.getPreviousStatus()).decrement();
+        }
+        if (event.getCurrentStatus() != null) {
+            counter(event.getCurrentStatus()).increment();
+        }
+    }
+
+    public long count(Enum<?> status) {
+        return counter(status).sum();
+    }
+
+    public <E extends Enum<E>> Map<String, Long> countsByStatus(Class<E> type) {
+        Map<String, Long> counts = new HashMap<>();
+        for (E status : type.getEnumConstants()) {
+            counts.put(status.name(), count(status));
+        }
+        return counts;
+    }
+
+    public <E extends Enum<E>> long total(Class<E> type) {
+        long total = 0;
+        for (E status : type.getEnumConstants()) {
+            total += count(status);
+        }
+        return total;
+    }
+
+    private LongAdder counter(Enum<?> status) {
+        return counters.computeIfAbsent(status, key -> new LongAdder());
+    }
+
+    private Enum<?> toStatus(String category, String status) {
+        return switch (category) {
+            case DashboardRepository.CATEGORY_RESEARCHER -> ResearcherStatus.valueOf(status);
+            case DashboardRepository.CATEGORY_PROJECT -> ProjectStatus.valueOf(status);
+            case DashboardRepository.CATEGORY_TASK -> TaskStatus.valueOf(status);
+            default -> throw new IllegalArgumentException("Unknown status category: " + category);
+        };
+    }
+}
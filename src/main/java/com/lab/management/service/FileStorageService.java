@@ -1,71 +1,172 @@
 package com.lab.management.service;
 
+import com.lab.management.entity.StoredBlob;
+import com.lab.management.repository.StoredBlobRepository;
+import com.lab.management.storage.StagedBlob;
+import com.lab.management.storage.StorageEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.InputStream;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
 
+/**
+ * Content-addressed upload storage.
+ *
+ * Uploads are staged by the {@link StorageEngine} (hashed with SHA-256 and size-checked while
+ * they are written) and published as {@code <digest><ext>}, so identical content uploaded for a
+ * notice, a board post and a seminar is stored once. {@link StoredBlob} counts the uploads
+ * resolving to each file; {@link #deleteFile} releases one reference and removes the file with
+ * the last one. Counts only change through single UPDATE/INSERT statements, so replicas sharing
+ * the database cannot overwrite each other's references; the stripe locks only order file
+ * operations within one node.
+ * Files stored before this scheme (random UUID names, no blob row) are deleted directly.
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class FileStorageService {
 
-    @Value("${file.upload-dir:uploads}")
-    private String uploadDir;
+    public static final String FILE_URL_PREFIX = "/api/files/";
 
-    public String storeFile(MultipartFile file, String subDir) {
-        try {
-            // Create upload directory if it doesn't exist
-            Path uploadPath = Paths.get(uploadDir, subDir).toAbsolutePath().normalize();
-            Files.createDirectories(uploadPath);
-
-            // Generate unique filename
-            String originalFileName = StringUtils.cleanPath(file.getOriginalFilename());
-            String fileExtension = "";
-            if (originalFileName.contains(".")) {
-                fileExtension = originalFileName.substring(originalFileName.lastIndexOf("."));
-            }
-            String fileName = UUID.randomUUID().toString() + fileExtension;
-
-            // Copy file to the target location
-            Path targetLocation = uploadPath.resolve(fileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+    private static final Pattern SAFE_EXTENSION = Pattern.compile("[A-Za-z0-9]{1,16}");
+    private static final int LOCK_STRIPES = 64;
+    private static final int MAX_PUBLISH_ATTEMPTS = 3;
 
-            log.info("File stored successfully: {}", fileName);
+    private final StoredBlobRepository storedBlobRepository;
+    private final StorageEngine storageEngine;
+    private final ImageDerivativeService imageDerivativeService;
 
-            // Return relative URL
-            return "/" + subDir + "/" + fileName;
+    // 같은 blob에 대한 저장/삭제 직렬화 (참조 수와 파일 상태를 함께 변경)
+    // 임계 구역에서 JDBC/디스크 I/O를 하므로 synchronized 대신 ReentrantLock (가상 스레드가 캐리어에 고정되지 않도록)
+    private final ReentrantLock[] blobLocks = createLocks();
 
+    public String storeFile(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return storeStream(in, file.getOriginalFilename(), file.getSize());
         } catch (IOException ex) {
             log.error("Failed to store file", ex);
             throw new RuntimeException("Failed to store file", ex);
         }
     }
 
+    // 스트림을 한 번 쓰면서 해시/크기를 계산한 뒤 digest 이름으로 게시
+    public String storeStream(InputStream in, String originalFilename, long expectedSize) throws IOException {
+        return publish(storageEngine.stage(in, expectedSize), originalFilename, true);
+    }
+
+    // 이미 디스크에 쓰인 파일(청크 업로드 결과)을 해시한 뒤 게시 (바이트를 다시 쓰지 않음)
+    // 게시에 실패하면 파일을 그대로 두어 호출자가 다시 시도할 수 있음
+    public String storeExistingFile(Path file, String originalFilename, long expectedSize) throws IOException {
+        return publish(storageEngine.adopt(file, expectedSize), originalFilename, false);
+    }
+
     public void deleteFile(String fileUrl) {
         try {
             if (fileUrl == null || fileUrl.isEmpty()) {
                 return;
             }
 
-            // Remove leading slash if present
-            String filePath = fileUrl.startsWith("/") ? fileUrl.substring(1) : fileUrl;
-            Path path = Paths.get(uploadDir, filePath).toAbsolutePath().normalize();
+            // Remove URL prefix or leading slash if present
+            String name = fileUrl.startsWith(FILE_URL_PREFIX) ? fileUrl.substring(FILE_URL_PREFIX.length())
+                    : fileUrl.startsWith("/") ? fileUrl.substring(1) : fileUrl;
+            if (!name.equals(StringUtils.getFilename(name)) || name.startsWith(".") || name.contains("\\")) {
+                log.warn("Refusing to delete file outside the upload directory: {}", fileUrl);
+                return;
+            }
 
-            Files.deleteIfExists(path);
+            ReentrantLock lock = lockFor(name);
+            lock.lock();
+            try {
+                if (storedBlobRepository.existsById(name)) {
+                    storedBlobRepository.decrementRefCount(name);
+                    if (storedBlobRepository.deleteIfUnreferenced(name) == 0) {
+                        log.info("Released a reference to shared file: {}", fileUrl);
+                        return;
+                    }
+                }
+                storageEngine.delete(name);
+                imageDerivativeService.deleteDerivatives(name);
+            } finally {
+                lock.unlock();
+            }
             log.info("File deleted successfully: {}", fileUrl);
 
         } catch (IOException ex) {
             log.error("Failed to delete file: {}", fileUrl, ex);
         }
     }
+
+    // 참조 수는 DB에서 원자적으로 갱신 (증가, 없으면 INSERT, 그 사이 다른 노드가 행을 만들었으면 다시 증가)
+    // 로컬 락은 같은 노드의 파일 게시/삭제 순서만 맞춤
+    private String publish(StagedBlob blob, String originalFilename, boolean discardOnFailure) throws IOException {
+        String name = blob.getDigest() + extensionOf(originalFilename);
+        ReentrantLock lock = lockFor(name);
+        lock.lock();
+        try {
+            boolean published = false;
+            for (int attempt = 1; ; attempt++) {
+                if (storedBlobRepository.incrementRefCount(name) > 0) {
+                    if (!published) {
+                        storageEngine.discard(blob);
+                    }
+                    log.info("Deduplicated upload {} -> {}", originalFilename, name);
+                    break;
+                }
+                if (!published) {
+                    try {
+                        storageEngine.publish(blob, name);
+                    } catch (IOException | RuntimeException e) {
+                        if (discardOnFailure) {
+                            storageEngine.discard(blob);
+                        }
+                        throw e;
+                    }
+                    published = true;
+                }
+                try {
+                    storedBlobRepository.insertBlob(name, blob.getDigest(), blob.getSize());
+                    log.info("File stored successfully: {} -> {} ({} bytes)", originalFilename, name, blob.getSize());
+                    break;
+                } catch (DataIntegrityViolationException e) {
+                    // 같은 내용이 다른 노드에서 동시에 게시됨 (파일 내용은 digest로 동일)
+                    if (attempt >= MAX_PUBLISH_ATTEMPTS) {
+                        throw e;
+                    }
+                    log.debug("Blob {} was created concurrently, retrying the reference increment", name);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return FILE_URL_PREFIX + name;
+    }
+
+    // 안전한 확장자만 유지 (경로 문자 등이 저장 이름에 들어가지 않도록)
+    private static String extensionOf(String originalFilename) {
+        if (originalFilename == null) {
+            return "";
+        }
+        String extension = StringUtils.getFilenameExtension(StringUtils.getFilename(StringUtils.cleanPath(originalFilename)));
+        return extension != null && SAFE_EXTENSION.matcher(extension).matches() ? "." + extension : "";
+    }
+
+    private ReentrantLock lockFor(String name) {
+        return blobLocks[Math.floorMod(name.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static ReentrantLock[] createLocks() {
+        ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
 }
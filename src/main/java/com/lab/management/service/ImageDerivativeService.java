@@ -0,0 +1,428 @@
+package com.lab.management.service;
+
+import com.lab.management.storage.UploadLayout;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.w3c.dom.Node;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resized copies of uploaded images, generated in the background and served by
+ * {@link com.lab.management.controller.FileServeController} for {@code /files/<name>?size=<px>}.
+ *
+ * Each configured width gets one derivative under {@code uploads/.derivatives}, in the same
+ * two-level fan-out as the originals (JPEG for opaque sources, PNG for PNG/GIF so transparency
+ * survives), encoded with the JDK's ImageIO. Work runs on a small bounded pool: generation is
+ * scheduled after an image upload and again on the first sized request for an image that has
+ * none yet (older uploads, researcher photos); when the queue is full the task is dropped and the
+ * original keeps being served until a later request reschedules it. Oversized sources are decoded
+ * with subsampling and rejected above {@code max-pixels}. The EXIF orientation of JPEG sources
+ * (phone photos are stored sideways with an Orientation tag) is applied before scaling, so the
+ * derivatives show upright like the original does in a browser; derivatives carry no metadata. Only sources that cannot be decoded or
+ * exceed that limit are remembered as failed (the oldest of at most 10,000 names are forgotten
+ * first); any other error, such as a failed write, is retried on a later request.
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService implements MeterBinder, DisposableBean {
+
+    private static final String DERIVATIVE_DIR = ".derivatives";
+    private static final String EXECUTOR_NAME = "imageDerivatives";
+    private static final Set<String> SOURCE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+    private static final Set<String> ALPHA_EXTENSIONS = Set.of("png", "gif");
+    private static final float JPEG_QUALITY = 0.82f;
+    private static final int MAX_FAILED = 10_000;
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1_MARKER = 0xE1;
+    private static final byte[] EXIF_HEADER = {'E', 'x', 'i', 'f', 0, 0};
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private final List<Integer> widths;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    // 생성 대기/진행 중인 원본 (중복 예약 방지) 및 디코딩할 수 없는 원본 (최대 MAX_FAILED개, 오래된 것부터 제거)
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final Set<String> failed = Collections.newSetFromMap(Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > MAX_FAILED;
+                }
+            }));
+
+    private volatile Counter rejected;
+
+    @Value("${file.upload-dir:uploads}")
+    private String uploadDir;
+
+    public ImageDerivativeService(@Value("${file.image-derivatives.widths:256,640,1280}") List<Integer> widths,
+                                  @Value("${file.image-derivatives.threads:2}") int threads,
+                                  @Value("${file.image-derivatives.queue-capacity:100}") int queueCapacity,
+                                  @Value("${file.image-derivatives.max-pixels:50000000}") long maxPixels) {
+        this.widths = widths.stream().filter(width -> width > 0).sorted().distinct().toList();
+        this.maxPixels = maxPixels;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        log.info("Image derivatives: widths {}, {} threads, queue capacity {}", this.widths, threads, queueCapacity);
+    }
+
+    // 파생 이미지를 만들 수 있는 형식인지 확인
+    public boolean supports(String filename) {
+        String extension = StringUtils.getFilenameExtension(filename);
+        return extension != null && SOURCE_EXTENSIONS.contains(extension.toLowerCase(Locale.ROOT));
+    }
+
+    // 요청 너비 이상인 가장 작은 파생 너비 (요청이 모든 너비보다 크면 원본이 맞는 변형이므로 null)
+    public Integer widthFor(int size) {
+        return widths.stream().filter(width -> width >= size).findFirst().orElse(null);
+    }
+
+    // 파생 이미지 경로 반환, 아직 없으면 생성을 예약하고 null 반환
+    public Path findOrSchedule(String filename, int width) {
+        Path derivative = derivativePath(filename, width);
+        if (Files.isRegularFile(derivative)) {
+            return derivative;
+        }
+        scheduleDerivatives(filename);
+        return null;
+    }
+
+    // 백그라운드에서 모든 너비의 파생 이미지 생성 (큐가 가득 차면 건너뜀)
+    public void scheduleDerivatives(String filename) {
+        if (!supports(filename) || failed.contains(filename) || !pending.add(filename)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generateDerivatives(filename);
+                } finally {
+                    pending.remove(filename);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(filename);
+            if (rejected != null) {
+                rejected.increment();
+            }
+            log.debug("Image derivative queue is full, skipping {}", filename);
+        }
+    }
+
+    // 원본을 한 번 디코딩해서 없는 너비의 파생 이미지를 큰 것부터 생성
+    public void generateDerivatives(String filename) {
+        Path root = uploadRoot();
+        Path source = root.equals(root.resolve(filename).normalize().getParent())
+                ? UploadLayout.resolve(root, filename) : null;
+        if (source == null) {
+            return;
+        }
+        List<Integer> missing = widths.stream()
+                .filter(width -> !Files.isRegularFile(derivativePath(filename, width)))
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        try {
+            BufferedImage image = read(source, missing.get(missing.size() - 1));
+            if (image == null) {
+                failed.add(filename);
+                log.warn("Cannot decode image for derivatives (unknown format, corrupt data or over {} pixels): {}",
+                        maxPixels, filename);
+                return;
+            }
+            boolean alpha = hasAlphaFormat(filename);
+            for (int i = missing.size() - 1; i >= 0; i--) {
+                int width = missing.get(i);
+                image = scaleDown(image, width, alpha);
+                write(image, derivativePath(filename, width), alpha);
+            }
+            log.info("Generated image derivatives {} for {}", missing, filename);
+        } catch (IOException | RuntimeException e) {
+            // 쓰기 실패 등은 일시적일 수 있으므로 실패 목록에 넣지 않고 다음 요청에서 다시 예약 (디코딩 실패는 read에서 null)
+            log.error("Failed to generate image derivatives for {}", filename, e);
+        }
+    }
+
+    // 원본 삭제 시 파생 이미지도 삭제
+    public void deleteDerivatives(String filename) {
+        failed.remove(filename);
+        for (int width : widths) {
+            try {
+                String name = derivativeName(filename, width);
+                Files.deleteIfExists(UploadLayout.flatPath(derivativeRoot(), name));
+                Files.deleteIfExists(UploadLayout.shardedPath(derivativeRoot(), name));
+            } catch (IOException e) {
+                log.error("Failed to delete image derivative {} of {}", width, filename, e);
+            }
+        }
+    }
+
+    // 기존 파생 이미지 경로 (마이그레이션 전 평면 경로 포함), 없으면 새로 쓸 샤딩 경로
+    public Path derivativePath(String filename, int width) {
+        String name = derivativeName(filename, width);
+        Path existing = UploadLayout.resolve(derivativeRoot(), name);
+        return existing != null ? existing : UploadLayout.shardedPath(derivativeRoot(), name);
+    }
+
+    private static String derivativeName(String filename, int width) {
+        String extension = hasAlphaFormat(filename) ? ".png" : ".jpg";
+        return StringUtils.stripFilenameExtension(filename) + "-" + width + extension;
+    }
+
+    private static boolean hasAlphaFormat(String filename) {
+        String extension = StringUtils.getFilenameExtension(filename);
+        return extension != null && ALPHA_EXTENSIONS.contains(extension.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(registry);
+        rejected = Counter.builder("image.derivatives.rejected")
+                .description("Image derivative tasks dropped because the queue was full")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    // 가장 큰 파생 너비의 2배 이상이면 서브샘플링으로 디코딩해서 메모리 사용량 제한
+    // 지원하지 않는 형식, 리더가 거부한 데이터 (잘린 파일, CMYK JPEG 등), max-pixels 초과면 null
+    private BufferedImage read(Path source, int largestWidth) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                long sourceWidth = reader.getWidth(0);
+                long sourceHeight = reader.getHeight(0);
+                if (sourceWidth * sourceHeight > maxPixels) {
+                    return null;
+                }
+                int orientation = exifOrientation(reader.getImageMetadata(0));
+                // 90도 회전하는 방향이면 화면에 보이는 너비는 원본의 높이
+                long displayWidth = orientation >= 5 ? sourceHeight : sourceWidth;
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = (int) Math.max(1, displayWidth / (largestWidth * 2L));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return orient(reader.read(0, param), orientation);
+            } catch (IIOException e) {
+                log.debug("Image reader rejected {}: {}", source, e.getMessage());
+                return null;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // JPEG 메타데이터의 APP1 Exif 세그먼트에서 IFD0 Orientation(0x0112) 값, 없거나 읽을 수 없으면 1 (그대로)
+    private static int exifOrientation(IIOMetadata metadata) {
+        if (metadata == null || !JPEG_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+            return 1;
+        }
+        Node markers = ((Node) metadata.getAsTree(JPEG_METADATA_FORMAT)).getFirstChild();
+        for (; markers != null; markers = markers.getNextSibling()) {
+            if (!"markerSequence".equals(markers.getNodeName())) {
+                continue;
+            }
+            for (Node marker = markers.getFirstChild(); marker != null; marker = marker.getNextSibling()) {
+                if (marker instanceof IIOMetadataNode node && "unknown".equals(node.getNodeName())
+                        && String.valueOf(APP1_MARKER).equals(node.getAttribute("MarkerTag"))
+                        && node.getUserObject() instanceof byte[] data) {
+                    int orientation = tiffOrientation(data);
+                    if (orientation != 1) {
+                        return orientation;
+                    }
+                }
+            }
+        }
+        return 1;
+    }
+
+    // "Exif\0\0" 뒤의 TIFF 헤더와 IFD0 항목을 읽어 Orientation 값 반환 (범위 밖이면 1)
+    private static int tiffOrientation(byte[] data) {
+        if (data.length < EXIF_HEADER.length + 8 || !Arrays.equals(data, 0, EXIF_HEADER.length, EXIF_HEADER, 0, EXIF_HEADER.length)) {
+            return 1;
+        }
+        try {
+            ByteBuffer tiff = ByteBuffer.wrap(data, EXIF_HEADER.length, data.length - EXIF_HEADER.length).slice();
+            tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+            int ifd = tiff.getInt(4);
+            int entries = Short.toUnsignedInt(tiff.getShort(ifd));
+            for (int i = 0; i < entries; i++) {
+                int entry = ifd + 2 + i * 12;
+                if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                    int orientation = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                    return orientation >= 1 && orientation <= 8 ? orientation : 1;
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            // 잘린 Exif 데이터는 방향 정보가 없는 것으로 처리
+        }
+        return 1;
+    }
+
+    // Orientation 값대로 뒤집기/회전해서 똑바로 선 이미지로 변환 (2~8, 5 이상은 가로세로가 바뀜)
+    private static BufferedImage orient(BufferedImage image, int orientation) {
+        if (orientation <= 1) {
+            return image;
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> {
+                transform.scale(-1, 1);
+                transform.translate(-width, 0);
+            }
+            case 3 -> {
+                transform.translate(width, height);
+                transform.rotate(Math.PI);
+            }
+            case 4 -> {
+                transform.scale(1, -1);
+                transform.translate(0, -height);
+            }
+            case 5 -> {
+                transform.rotate(-Math.PI / 2);
+                transform.scale(-1, 1);
+            }
+            case 6 -> {
+                transform.translate(height, 0);
+                transform.rotate(Math.PI / 2);
+            }
+            case 7 -> {
+                transform.scale(-1, 1);
+                transform.translate(-height, width);
+                transform.rotate(3 * Math.PI / 2);
+            }
+            default -> {
+                transform.translate(0, width);
+                transform.rotate(3 * Math.PI / 2);
+            }
+        }
+        boolean swapped = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(swapped ? height : width, swapped ? width : height,
+                image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    // 절반씩 줄여가며 목표 너비까지 축소 (한 번에 크게 줄일 때의 계단 현상 방지, 확대는 하지 않음)
+    private static BufferedImage scaleDown(BufferedImage image, int targetWidth, boolean alpha) {
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = image;
+        do {
+            int width = Math.min(current.getWidth(), Math.max(targetWidth, current.getWidth() / 2));
+            int height = Math.max(1, (int) Math.round((double) current.getHeight() * width / current.getWidth()));
+            BufferedImage scaled = new BufferedImage(width, height, type);
+            Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = scaled;
+        } while (current.getWidth() > targetWidth);
+        return current;
+    }
+
+    // 임시 파일에 인코딩한 뒤 원자적으로 교체 (서빙 중에 일부만 쓰인 파일이 보이지 않도록)
+    private static void write(BufferedImage image, Path target, boolean alpha) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "derivative-", ".tmp");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName(alpha ? "png" : "jpeg").next();
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(output);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                if (!alpha) {
+                    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                    param.setCompressionQuality(JPEG_QUALITY);
+                }
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path uploadRoot() {
+        return Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
+
+    private Path derivativeRoot() {
+        return uploadRoot().resolve(DERIVATIVE_DIR);
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "image-derivative-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,10 +1,13 @@
 package com.lab.management.service;
 
+import com.lab.management.config.CacheConfig;
 import com.lab.management.dto.request.LabInfoRequest;
 import com.lab.management.dto.response.LabInfoResponse;
 import com.lab.management.entity.LabInfo;
 import com.lab.management.repository.LabInfoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +18,7 @@ public class LabInfoService {
     private final LabInfoRepository labInfoRepository;
 
     @Transactional(readOnly = true)
+    @Cacheable(CacheConfig.LAB_INFO)
     public LabInfoResponse getLabInfo() {
         LabInfo labInfo = labInfoRepository.findAll().stream()
                 .findFirst()
@@ -24,6 +28,7 @@ public class LabInfoService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.LAB_INFO, allEntries = true)
     public LabInfoResponse updateLabInfo(LabInfoRequest request) {
         LabInfo labInfo = labInfoRepository.findAll().stream()
                 .findFirst()
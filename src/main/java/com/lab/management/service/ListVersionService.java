@@ -0,0 +1,49 @@
+package com.lab.management.service;
+
+import com.lab.management.repository.ListVersionRepository;
+import com.lab.management.repository.VersionStamp;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Strong ETag validators for polled list endpoints.
+ *
+ * A validator is derived from the row counts and latest {@code updated_at} of every table that
+ * feeds the response, read with a single aggregate query. Counts catch deletes, which leave no
+ * newer timestamp behind; timestamps catch in-place edits. Join and collection tables carry no
+ * timestamp, so services that change them touch the owning row ({@code BaseEntity#touch}) and a
+ * same-size swap still moves its {@code updated_at}. Controllers check it before calling
+ * the list service so an unchanged poll is answered with 304 without loading any entities.
+ */
+@Service
+@RequiredArgsConstructor
+public class ListVersionService {
+
+    private final ListVersionRepository listVersionRepository;
+
+    public String projectListETag() {
+        return toETag("projects", listVersionRepository.findProjectListVersion());
+    }
+
+    public String taskListETag(String username) {
+        return toETag("tasks:" + username, listVersionRepository.findTaskListVersionByUsername(username));
+    }
+
+    public String publicNoticeListETag() {
+        return toETag("public-notices", listVersionRepository.findPublicNoticeListVersion());
+    }
+
+    private String toETag(String scope, List<VersionStamp> stamps) {
+        StringBuilder version = new StringBuilder(scope);
+        for (VersionStamp stamp : stamps) {
+            version.append('|').append(stamp.getSource())
+                    .append(':').append(stamp.getTotal())
+                    .append(':').append(stamp.getLastModified());
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(version.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
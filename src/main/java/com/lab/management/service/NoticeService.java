@@ -1,15 +1,23 @@
 package com.lab.management.service;
 
+import com.lab.management.config.CacheConfig;
 import com.lab.management.dto.CreateNoticeRequest;
 import com.lab.management.dto.NoticeDTO;
+import com.lab.management.dto.response.CursorPage;
 import com.lab.management.entity.Notice;
 import com.lab.management.entity.Researcher;
+import com.lab.management.entity.SearchDocumentType;
 import com.lab.management.entity.User;
+import com.lab.management.event.SearchDocumentEvent;
 import com.lab.management.exception.ResourceNotFoundException;
 import com.lab.management.repository.NoticeRepository;
 import com.lab.management.repository.ResearcherRepository;
 import com.lab.management.repository.UserRepository;
+import com.lab.management.util.CreatedAtCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -26,10 +34,13 @@ public class NoticeService {
     private final NoticeRepository noticeRepository;
     private final ResearcherRepository researcherRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 공개 공지 목록 조회 (최신 N개)
+    // version(목록 ETag)을 캐시 키에 포함: 버전이 바뀌면 새로 적재하므로 새 ETag에 이전 본문이 붙지 않음
     @Transactional(readOnly = true)
-    public List<NoticeDTO> getPublicNotices(int limit) {
+    @Cacheable(cacheNames = CacheConfig.PUBLIC_NOTICES, key = "#version + ':latest:' + #limit")
+    public List<NoticeDTO> getPublicNotices(String version, int limit) {
         List<Notice> notices = noticeRepository.findByIsPublicTrueOrderByCreatedAtDesc();
         return notices.stream()
                 .limit(limit)
@@ -37,9 +48,10 @@ public class NoticeService {
                 .collect(Collectors.toList());
     }
 
-    // 공개 공지 목록 조회 (페이징)
+    // 공개 공지 목록 조회 (페이징, version은 위와 같이 캐시 키)
     @Transactional(readOnly = true)
-    public Page<NoticeDTO> getPublicNotices(int page, int size) {
+    @Cacheable(cacheNames = CacheConfig.PUBLIC_NOTICES, key = "#version + ':page:' + #page + ':' + #size")
+    public Page<NoticeDTO> getPublicNotices(String version, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         Page<Notice> noticePage = noticeRepository.findByIsPublicTrueOrderByCreatedAtDesc(pageable);
         return noticePage.map(this::convertToDTO);
@@ -53,6 +65,33 @@ public class NoticeService {
         return noticePage.map(this::convertToDTO);
     }
 
+    // 모든 공지 목록 조회 (커서 페이징, COUNT 쿼리 없음)
+    @Transactional(readOnly = true)
+    public CursorPage<NoticeDTO> getNoticesByCursor(String cursor, int size) {
+        Pageable pageable = PageRequest.ofSize(size + 1);
+        List<Notice> notices;
+        if (cursor == null || cursor.isBlank()) {
+            notices = noticeRepository.findAllByOrderByCreatedAtDescIdDesc(pageable);
+        } else {
+            CreatedAtCursor position = CreatedAtCursor.decode(cursor);
+            notices = noticeRepository.findPageAfter(position.getCreatedAt(), position.getId(), pageable);
+        }
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        boolean hasNext = notices.size() > size;
+        String nextCursor = null;
+        if (hasNext) {
+            notices = notices.subList(0, size);
+            Notice last = notices.get(size - 1);
+            nextCursor = new CreatedAtCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<NoticeDTO> content = notices.stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
     // 공지 상세 조회
     @Transactional(readOnly = true)
     public NoticeDTO getNoticeById(Long id) {
@@ -63,6 +102,7 @@ public class NoticeService {
 
     // 공지 작성 (모든 멤버 가능)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_NOTICES, allEntries = true)
     public NoticeDTO createNotice(CreateNoticeRequest request, String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
@@ -82,11 +122,13 @@ public class NoticeService {
         notice.setAuthor(author);
 
         Notice savedNotice = noticeRepository.save(notice);
+        eventPublisher.publishEvent(SearchDocumentEvent.saved(savedNotice));
         return convertToDTO(savedNotice);
     }
 
     // 공지 수정 (작성자 또는 관리자)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_NOTICES, allEntries = true)
     public NoticeDTO updateNotice(Long id, CreateNoticeRequest request, String username) {
         Notice notice = noticeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Notice", "id", id));
@@ -112,11 +154,13 @@ public class NoticeService {
         notice.setAttachmentName(request.getAttachmentName());
 
         Notice updatedNotice = noticeRepository.save(notice);
+        eventPublisher.publishEvent(SearchDocumentEvent.saved(updatedNotice));
         return convertToDTO(updatedNotice);
     }
 
     // 공지 삭제 (작성자 또는 관리자)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_NOTICES, allEntries = true)
     public void deleteNotice(Long id, String username) {
         Notice notice = noticeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Notice", "id", id));
@@ -135,10 +179,12 @@ public class NoticeService {
         }
 
         noticeRepository.delete(notice);
+        eventPublisher.publishEvent(SearchDocumentEvent.deleted(SearchDocumentType.NOTICE, notice.getId()));
     }
 
     // 관리자용 공지 수정 (작성자 확인 없음)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_NOTICES, allEntries = true)
     public NoticeDTO updateNoticeByAdmin(Long id, CreateNoticeRequest request) {
         Notice notice = noticeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Notice", "id", id));
@@ -151,15 +197,18 @@ public class NoticeService {
         notice.setAttachmentName(request.getAttachmentName());
 
         Notice updatedNotice = noticeRepository.save(notice);
+        eventPublisher.publishEvent(SearchDocumentEvent.saved(updatedNotice));
         return convertToDTO(updatedNotice);
     }
 
     // 관리자용 공지 삭제 (작성자 확인 없음)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_NOTICES, allEntries = true)
     public void deleteNoticeByAdmin(Long id) {
         Notice notice = noticeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Notice", "id", id));
         noticeRepository.delete(notice);
+        eventPublisher.publishEvent(SearchDocumentEvent.deleted(SearchDocumentType.NOTICE, notice.getId()));
     }
 
     // Entity to DTO
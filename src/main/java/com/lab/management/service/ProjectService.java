@@ -1,20 +1,28 @@
 package com.lab.management.service;
 
+import com.lab.management.config.CacheConfig;
 import com.lab.management.dto.mapper.ProjectMapper;
 import com.lab.management.dto.request.ProjectRequest;
 import com.lab.management.dto.response.ProjectResponse;
 import com.lab.management.entity.Project;
 import com.lab.management.entity.ProjectStatus;
 import com.lab.management.entity.Researcher;
+import com.lab.management.entity.Task;
+import com.lab.management.event.StatusChangedEvent;
 import com.lab.management.exception.ResourceNotFoundException;
-import com.lab.management.repository.ProjectRepository;
 import com.lab.management.repository.ProjectHistoryRepository;
+import com.lab.management.repository.ProjectRepository;
+import com.lab.management.repository.ProjectTaskCount;
 import com.lab.management.repository.ResearcherRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,20 +35,22 @@ public class ProjectService {
     private final ProjectMapper projectMapper;
     private final ProjectHistoryService projectHistoryService;
     private final ProjectHistoryRepository projectHistoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<ProjectResponse> getAllProjects() {
-        List<Project> projects = projectRepository.findAll();
-        return projectMapper.toResponseList(projects);
+        List<Project> projects = projectRepository.findAllWithResearchers();
+        return toResponseList(projects);
     }
 
+    @Cacheable(CacheConfig.ACTIVE_PROJECTS)
     public List<ProjectResponse> getActiveProjects() {
         List<Project> projects = projectRepository.findAllActiveProjects();
-        return projectMapper.toResponseList(projects);
+        return toResponseList(projects);
     }
 
     public List<ProjectResponse> getProjectsByStatus(ProjectStatus status) {
         List<Project> projects = projectRepository.findByStatus(status);
-        return projectMapper.toResponseList(projects);
+        return toResponseList(projects);
     }
 
     public ProjectResponse getProjectById(Long id) {
@@ -51,10 +61,26 @@ public class ProjectService {
 
     public List<ProjectResponse> getProjectsByResearcherId(Long researcherId) {
         List<Project> projects = projectRepository.findByResearcherId(researcherId);
-        return projectMapper.toResponseList(projects);
+        return toResponseList(projects);
+    }
+
+    private List<ProjectResponse> toResponseList(List<Project> projects) {
+        List<ProjectResponse> responses = projectMapper.toResponseList(projects);
+        if (projects.isEmpty()) {
+            return responses;
+        }
+
+        List<Long> projectIds = projects.stream().map(Project::getId).toList();
+        Map<Long, Long> taskCounts = projectRepository.countTasksByProjectIds(projectIds).stream()
+                .collect(Collectors.toMap(ProjectTaskCount::getProjectId, ProjectTaskCount::getTaskCount));
+        for (ProjectResponse response : responses) {
+            response.setTaskCount(taskCounts.getOrDefault(response.getId(), 0L).intValue());
+        }
+        return responses;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_PROJECTS, allEntries = true)
     public ProjectResponse createProject(ProjectRequest request) {
         Project project = projectMapper.toEntity(request);
 
@@ -73,15 +99,19 @@ public class ProjectService {
         }
 
         Project savedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(StatusChangedEvent.created(savedProject.getStatus()));
         return projectMapper.toResponse(savedProject);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_PROJECTS, allEntries = true)
     public ProjectResponse updateProject(Long id, ProjectRequest request) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+        ProjectStatus previousStatus = project.getStatus();
 
         projectMapper.updateEntityFromRequest(request, project);
+        project.touch();
 
         // Update researchers if provided
         if (request.getResearcherIds() != null) {
@@ -90,10 +120,12 @@ public class ProjectService {
         }
 
         Project updatedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(StatusChangedEvent.updated(previousStatus, updatedProject.getStatus()));
         return projectMapper.toResponse(updatedProject);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_PROJECTS, allEntries = true)
     public void deleteProject(Long id) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
@@ -102,9 +134,11 @@ public class ProjectService {
         projectHistoryRepository.deleteByProjectId(id);
 
         projectRepository.delete(project);
+        publishDeleted(project);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_PROJECTS, allEntries = true)
     public void deleteProjectWithHistory(Long id, Researcher researcher) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
@@ -119,6 +153,15 @@ public class ProjectService {
 
         // Delete the project
         projectRepository.delete(project);
+        publishDeleted(project);
+    }
+
+    // Tasks are removed together with the project (orphanRemoval), so report them as well
+    private void publishDeleted(Project project) {
+        eventPublisher.publishEvent(StatusChangedEvent.deleted(project.getStatus()));
+        for (Task task : project.getTasks()) {
+            eventPublisher.publishEvent(StatusChangedEvent.deleted(task.getStatus()));
+        }
     }
 
     public long countByStatus(ProjectStatus status) {
@@ -126,9 +169,11 @@ public class ProjectService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_PROJECTS, allEntries = true)
     public ProjectResponse updateProjectWithHistory(Long id, ProjectRequest request, Researcher researcher) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+        ProjectStatus previousStatus = project.getStatus();
 
         // Track changes
         StringBuilder changes = new StringBuilder();
@@ -143,6 +188,7 @@ public class ProjectService {
         }
 
         projectMapper.updateEntityFromRequest(request, project);
+        project.touch();
 
         // Update researchers if provided
         if (request.getResearcherIds() != null) {
@@ -151,6 +197,7 @@ public class ProjectService {
         }
 
         Project updatedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(StatusChangedEvent.updated(previousStatus, updatedProject.getStatus()));
 
         // Log history
         if (changes.length() > 0) {
@@ -1,8 +1,11 @@
 package com.lab.management.service;
 
+import com.lab.management.config.CacheConfig;
 import com.lab.management.entity.ResearchArea;
 import com.lab.management.repository.ResearchAreaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +18,7 @@ public class ResearchAreaService {
 
     private final ResearchAreaRepository researchAreaRepository;
 
+    @Cacheable(CacheConfig.RESEARCH_AREAS)
     public List<ResearchArea> getAllResearchAreas() {
         return researchAreaRepository.findAll();
     }
@@ -25,6 +29,7 @@ public class ResearchAreaService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RESEARCH_AREAS, allEntries = true)
     public ResearchArea createResearchArea(String name, String description) {
         if (researchAreaRepository.existsByName(name)) {
             throw new IllegalArgumentException("Research area already exists with name: " + name);
@@ -39,6 +44,7 @@ public class ResearchAreaService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RESEARCH_AREAS, allEntries = true)
     public ResearchArea updateResearchArea(Long id, String name, String description) {
         ResearchArea researchArea = getResearchAreaById(id);
 
@@ -57,6 +63,7 @@ public class ResearchAreaService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RESEARCH_AREAS, allEntries = true)
     public void deleteResearchArea(Long id) {
         if (!researchAreaRepository.existsById(id)) {
             throw new IllegalArgumentException("Research area not found with id: " + id);
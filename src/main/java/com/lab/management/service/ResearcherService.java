@@ -1,21 +1,24 @@
 package com.lab.management.service;
 
+import com.lab.management.config.CacheConfig;
 import com.lab.management.dto.mapper.ResearcherMapper;
 import com.lab.management.dto.request.ResearcherRequest;
 import com.lab.management.dto.response.ResearcherResponse;
 import com.lab.management.entity.Researcher;
 import com.lab.management.entity.ResearcherStatus;
 import com.lab.management.entity.User;
+import com.lab.management.event.StatusChangedEvent;
 import com.lab.management.exception.ResourceAlreadyExistsException;
 import com.lab.management.exception.ResourceNotFoundException;
 import com.lab.management.repository.ResearcherRepository;
-import com.lab.management.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -24,15 +27,16 @@ public class ResearcherService {
 
     private final ResearcherRepository researcherRepository;
     private final ResearcherMapper researcherMapper;
-    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<ResearcherResponse> getAllResearchers() {
-        List<Researcher> researchers = researcherRepository.findAll();
+        List<Researcher> researchers = researcherRepository.findAllWithUser();
         return researchers.stream()
                 .map(this::enrichWithUserInfo)
                 .toList();
     }
 
+    @Cacheable(CacheConfig.ACTIVE_RESEARCHERS)
     public List<ResearcherResponse> getActiveResearchers() {
         List<Researcher> researchers = researcherRepository.findByStatus(ResearcherStatus.ACTIVE);
         return researchers.stream()
@@ -53,12 +57,13 @@ public class ResearcherService {
         return enrichWithUserInfo(researcher);
     }
 
+    // The account is read from the (already loaded) inverse one-to-one instead of a per-researcher lookup
     private ResearcherResponse enrichWithUserInfo(Researcher researcher) {
         ResearcherResponse response = researcherMapper.toResponse(researcher);
 
-        Optional<User> user = userRepository.findByResearcherId(researcher.getId());
-        if (user.isPresent()) {
-            response.setUsername(user.get().getUsername());
+        User user = researcher.getUser();
+        if (user != null) {
+            response.setUsername(user.getUsername());
             response.setHasAccount(true);
         } else {
             response.setUsername(null);
@@ -69,6 +74,7 @@ public class ResearcherService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.ACTIVE_RESEARCHERS, CacheConfig.ACTIVE_PROJECTS}, allEntries = true)
     public ResearcherResponse createResearcher(ResearcherRequest request) {
         // Check if student ID already exists
         if (researcherRepository.existsByStudentId(request.getStudentId())) {
@@ -86,10 +92,12 @@ public class ResearcherService {
         }
 
         Researcher savedResearcher = researcherRepository.save(researcher);
+        eventPublisher.publishEvent(StatusChangedEvent.created(savedResearcher.getStatus()));
         return enrichWithUserInfo(savedResearcher);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.ACTIVE_RESEARCHERS, CacheConfig.ACTIVE_PROJECTS}, allEntries = true)
     public ResearcherResponse updateResearcher(Long id, ResearcherRequest request) {
         Researcher researcher = researcherRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Researcher", "id", id));
@@ -106,16 +114,21 @@ public class ResearcherService {
             throw new ResourceAlreadyExistsException("Researcher", "email", request.getEmail());
         }
 
+        ResearcherStatus previousStatus = researcher.getStatus();
         researcherMapper.updateEntityFromRequest(request, researcher);
+        researcher.touch();
         Researcher updatedResearcher = researcherRepository.save(researcher);
+        eventPublisher.publishEvent(StatusChangedEvent.updated(previousStatus, updatedResearcher.getStatus()));
         return enrichWithUserInfo(updatedResearcher);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.ACTIVE_RESEARCHERS, CacheConfig.ACTIVE_PROJECTS}, allEntries = true)
     public void deleteResearcher(Long id) {
         Researcher researcher = researcherRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Researcher", "id", id));
         researcherRepository.delete(researcher);
+        eventPublisher.publishEvent(StatusChangedEvent.deleted(researcher.getStatus()));
     }
 
     public long countByStatus(ResearcherStatus status) {
@@ -0,0 +1,387 @@
+package com.lab.management.service;
+
+import com.lab.management.dto.response.SearchResultResponse;
+import com.lab.management.entity.SearchDocumentType;
+import com.lab.management.event.SearchDocumentEvent;
+import com.lab.management.repository.AnnouncementRepository;
+import com.lab.management.repository.BoardRepository;
+import com.lab.management.repository.NoticeRepository;
+import com.lab.management.repository.SeminarRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiTerms;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Embedded Lucene index over boards, notices, seminars and announcements.
+ *
+ * Documents are analyzed with the Nori Korean analyzer and ranked by BM25 over title (boosted)
+ * and content. The index is kept in sync from {@link SearchDocumentEvent}s applied after commit
+ * and made searchable by a near-real-time reader refresh; the durable Lucene commit (an fsync)
+ * runs every {@code search.commit-interval-ms} on the scheduler instead of on the request thread.
+ * An event that fails to apply marks the index for a full rebuild on that same schedule, and an
+ * admin can trigger {@link #reindexAll} at any time. The index is also rebuilt from the database
+ * when it starts out empty. A rebuild updates every document in place and then deletes the keys
+ * the database pass did not see, so searchers keep the previous index until the rebuilt one is
+ * refreshed in one step; events arriving meanwhile are held back and replayed on top of it, so a
+ * change committed during the rebuild is not overwritten by the row the rebuild had already read. With {@code search.index-dir} left blank the index lives in memory,
+ * which suits the in-memory H2 profile.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexService {
+
+    private static final String FIELD_KEY = "key";
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_SNIPPET = "snippet";
+    private static final String FIELD_CREATED_AT = "createdAt";
+
+    private static final float TITLE_BOOST = 3.0f;
+    private static final int SNIPPET_LENGTH = 200;
+    private static final int REINDEX_BATCH_SIZE = 500;
+    // 검색 결과 창 상한 (수집기가 (page + 1) * size 크기의 큐를 할당하므로)
+    private static final int MAX_RESULT_WINDOW = 10_000;
+
+    private final BoardRepository boardRepository;
+    private final NoticeRepository noticeRepository;
+    private final SeminarRepository seminarRepository;
+    private final AnnouncementRepository announcementRepository;
+
+    @Value("${search.index-dir:search-index}")
+    private String indexDir;
+
+    private Directory directory;
+    private Analyzer analyzer;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+
+    // 재색인 직렬화 (디스크 I/O를 하므로 synchronized 대신 ReentrantLock)
+    private final ReentrantLock reindexLock = new ReentrantLock();
+    private final AtomicBoolean rebuildNeeded = new AtomicBoolean();
+
+    // 변경 반영 직렬화, 재색인 중에는 반영 대신 deferred에 쌓았다가 재색인 후 순서대로 반영
+    private final ReentrantLock eventLock = new ReentrantLock();
+    private List<SearchDocumentEvent> deferred;
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = indexDir.isBlank()
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Paths.get(indexDir).toAbsolutePath().normalize());
+        analyzer = new KoreanAnalyzer();
+        indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (indexWriter.getDocStats().numDocs == 0) {
+            reindexAll();
+        }
+    }
+
+    // DB 전체를 다시 색인, 색인된 문서 수 반환
+    // 키 단위 update 후 DB에 없는 키만 삭제해서 재색인 중에도 검색은 이전 색인을 그대로 사용
+    public int reindexAll() {
+        reindexLock.lock();
+        try {
+            eventLock.lock();
+            try {
+                deferred = new ArrayList<>();
+            } finally {
+                eventLock.unlock();
+            }
+            rebuildNeeded.set(false);
+            Set<String> seen = new HashSet<>();
+            int count = indexAll(boardRepository, SearchDocumentEvent::saved, seen)
+                    + indexAll(noticeRepository, SearchDocumentEvent::saved, seen)
+                    + indexAll(seminarRepository, SearchDocumentEvent::saved, seen)
+                    + indexAll(announcementRepository, SearchDocumentEvent::saved, seen);
+            int removed = deleteUnseen(seen);
+            replayDeferred();
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+            log.info("Search index rebuilt with {} documents ({} stale removed)", count, removed);
+            return count;
+        } catch (IOException e) {
+            rebuildNeeded.set(true);
+            throw new UncheckedIOException("Failed to rebuild search index", e);
+        } catch (RuntimeException e) {
+            rebuildNeeded.set(true);
+            throw e;
+        } finally {
+            replayDeferred();
+            reindexLock.unlock();
+        }
+    }
+
+    // 변경을 색인에 반영하고 NRT 리더만 갱신 (fsync 하는 commit은 주기 작업에서), 재색인 중이면 보류
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentChanged(SearchDocumentEvent event) {
+        eventLock.lock();
+        try {
+            if (deferred != null) {
+                deferred.add(event);
+                return;
+            }
+            if (apply(event)) {
+                searcherManager.maybeRefresh();
+            }
+        } catch (IOException e) {
+            rebuildNeeded.set(true);
+            log.error("Failed to refresh search index, scheduling a rebuild", e);
+        } finally {
+            eventLock.unlock();
+        }
+    }
+
+    // 재색인 중 보류된 변경을 도착 순서대로 반영하고 보류 해제
+    private void replayDeferred() {
+        eventLock.lock();
+        try {
+            if (deferred == null) {
+                return;
+            }
+            for (SearchDocumentEvent event : deferred) {
+                apply(event);
+            }
+            deferred = null;
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            rebuildNeeded.set(true);
+            log.error("Failed to refresh search index, scheduling a rebuild", e);
+        } finally {
+            eventLock.unlock();
+        }
+    }
+
+    // 변경 하나를 IndexWriter에 반영, 실패하면 다음 주기 작업의 재색인을 예약
+    private boolean apply(SearchDocumentEvent event) {
+        Term key = new Term(FIELD_KEY, key(event.getType(), event.getId()));
+        try {
+            if (event.isDeleted()) {
+                indexWriter.deleteDocuments(key);
+            } else {
+                indexWriter.updateDocument(key, toDocument(event));
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // The database write already committed; the next maintenance run rebuilds the index
+            rebuildNeeded.set(true);
+            log.error("Failed to update search index for {}, scheduling a rebuild", key.text(), e);
+            return false;
+        }
+    }
+
+    // 주기적으로 미반영 변경을 commit, 반영에 실패한 변경이 있었으면 전체 재색인
+    @Scheduled(fixedDelayString = "${search.commit-interval-ms:30000}",
+            initialDelayString = "${search.commit-interval-ms:30000}")
+    public void maintain() {
+        try {
+            if (rebuildNeeded.get()) {
+                reindexAll();
+            } else if (indexWriter.hasUncommittedChanges()) {
+                indexWriter.commit();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Search index maintenance failed", e);
+        }
+    }
+
+    // 제목/본문 검색 (type이 null이면 전체 유형)
+    // 결과 창을 넘는 깊은 페이지는 수집 없이 빈 페이지와 총 건수만 반환
+    public Page<SearchResultResponse> search(String keyword, SearchDocumentType type, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        Query query = buildQuery(keyword, type);
+        if (query == null) {
+            return Page.empty(pageable);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                if (((long) page + 1) * size > MAX_RESULT_WINDOW) {
+                    return new PageImpl<>(List.of(), pageable, searcher.count(query));
+                }
+                TopScoreDocCollector collector = TopScoreDocCollector.create((page + 1) * size, Integer.MAX_VALUE);
+                searcher.search(query, collector);
+                TopDocs topDocs = collector.topDocs(page * size, size);
+
+                StoredFields storedFields = searcher.storedFields();
+                List<SearchResultResponse> results = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    results.add(toResult(storedFields.document(scoreDoc.doc), scoreDoc.score));
+                }
+                return new PageImpl<>(results, pageable, collector.getTotalHits());
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Search failed", e);
+        }
+    }
+
+    private Query buildQuery(String keyword, SearchDocumentType type) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        QueryBuilder builder = new QueryBuilder(analyzer);
+        Query title = builder.createBooleanQuery(FIELD_TITLE, keyword);
+        Query content = builder.createBooleanQuery(FIELD_CONTENT, keyword);
+        // 분석 결과 토큰이 없는 경우 (조사/기호만 입력)
+        if (title == null || content == null) {
+            return null;
+        }
+
+        BooleanQuery.Builder text = new BooleanQuery.Builder()
+                .add(new BoostQuery(title, TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                .add(content, BooleanClause.Occur.SHOULD);
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(text.build(), BooleanClause.Occur.MUST);
+        if (type != null) {
+            query.add(new TermQuery(new Term(FIELD_TYPE, type.name())), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private <T> int indexAll(JpaRepository<T, Long> repository, Function<T, SearchDocumentEvent> toEvent,
+                             Set<String> seen) throws IOException {
+        int count = 0;
+        Pageable pageable = PageRequest.of(0, REINDEX_BATCH_SIZE, Sort.by("id"));
+        Page<T> batch;
+        do {
+            batch = repository.findAll(pageable);
+            for (T entity : batch) {
+                SearchDocumentEvent event = toEvent.apply(entity);
+                String key = key(event.getType(), event.getId());
+                indexWriter.updateDocument(new Term(FIELD_KEY, key), toDocument(event));
+                seen.add(key);
+                count++;
+            }
+            pageable = pageable.next();
+        } while (batch.hasNext());
+        return count;
+    }
+
+    // 색인에는 있지만 DB 순회에서 보지 못한 키 삭제 (IndexWriter의 미반영 변경까지 보는 리더로 확인)
+    private int deleteUnseen(Set<String> seen) throws IOException {
+        List<Term> stale = new ArrayList<>();
+        try (DirectoryReader reader = DirectoryReader.open(indexWriter)) {
+            Terms terms = MultiTerms.getTerms(reader, FIELD_KEY);
+            if (terms != null) {
+                // 삭제된 문서의 키도 병합 전까지 남아 있으므로 살아 있는 문서가 있는 키만
+                IndexSearcher searcher = new IndexSearcher(reader);
+                TermsEnum termsEnum = terms.iterator();
+                for (BytesRef term = termsEnum.next(); term != null; term = termsEnum.next()) {
+                    Term key = new Term(FIELD_KEY, BytesRef.deepCopyOf(term));
+                    if (!seen.contains(key.text()) && searcher.count(new TermQuery(key)) > 0) {
+                        stale.add(key);
+                    }
+                }
+            }
+        }
+        if (!stale.isEmpty()) {
+            indexWriter.deleteDocuments(stale.toArray(new Term[0]));
+        }
+        return stale.size();
+    }
+
+    private Document toDocument(SearchDocumentEvent event) {
+        String content = event.getContent() == null ? "" : event.getContent();
+
+        Document document = new Document();
+        document.add(new StringField(FIELD_KEY, key(event.getType(), event.getId()), Field.Store.NO));
+        document.add(new StringField(FIELD_TYPE, event.getType().name(), Field.Store.YES));
+        document.add(new StoredField(FIELD_ID, event.getId()));
+        document.add(new TextField(FIELD_TITLE, event.getTitle(), Field.Store.YES));
+        document.add(new TextField(FIELD_CONTENT, content, Field.Store.NO));
+        document.add(new StoredField(FIELD_SNIPPET,
+                content.length() > SNIPPET_LENGTH ? content.substring(0, SNIPPET_LENGTH) : content));
+        if (event.getCreatedAt() != null) {
+            document.add(new StoredField(FIELD_CREATED_AT, event.getCreatedAt().toString()));
+        }
+        return document;
+    }
+
+    private SearchResultResponse toResult(Document document, float score) {
+        String createdAt = document.get(FIELD_CREATED_AT);
+        return SearchResultResponse.builder()
+                .type(SearchDocumentType.valueOf(document.get(FIELD_TYPE)))
+                .id(document.getField(FIELD_ID).numericValue().longValue())
+                .title(document.get(FIELD_TITLE))
+                .snippet(document.get(FIELD_SNIPPET))
+                .score(score)
+                .createdAt(createdAt == null ? null : LocalDateTime.parse(createdAt))
+                .build();
+    }
+
+    private String key(SearchDocumentType type, Long id) {
+        return type.name() + ":" + id;
+    }
+}
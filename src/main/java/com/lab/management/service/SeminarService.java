@@ -1,12 +1,18 @@
 package com.lab.management.service;
 
+import com.lab.management.config.CacheConfig;
 import com.lab.management.dto.SeminarRequest;
 import com.lab.management.dto.SeminarResponse;
 import com.lab.management.entity.Researcher;
+import com.lab.management.entity.SearchDocumentType;
 import com.lab.management.entity.Seminar;
+import com.lab.management.event.SearchDocumentEvent;
 import com.lab.management.repository.ResearcherRepository;
 import com.lab.management.repository.SeminarRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +27,7 @@ public class SeminarService {
 
     private final SeminarRepository seminarRepository;
     private final ResearcherRepository researcherRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<SeminarResponse> getAllSeminars() {
         return seminarRepository.findAllByOrderBySeminarDateDesc().stream()
@@ -28,6 +35,7 @@ public class SeminarService {
                 .collect(Collectors.toList());
     }
 
+    @Cacheable(CacheConfig.PUBLIC_SEMINARS)
     public List<SeminarResponse> getPublicSeminars() {
         return seminarRepository.findByIsPublicTrueOrderBySeminarDateDesc().stream()
                 .map(SeminarResponse::from)
@@ -59,6 +67,7 @@ public class SeminarService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_SEMINARS, allEntries = true)
     public SeminarResponse createSeminar(SeminarRequest request) {
         Researcher presenter = null;
         if (request.getPresenterId() != null) {
@@ -78,10 +87,12 @@ public class SeminarService {
                 .build();
 
         Seminar saved = seminarRepository.save(seminar);
+        eventPublisher.publishEvent(SearchDocumentEvent.saved(saved));
         return SeminarResponse.from(saved);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_SEMINARS, allEntries = true)
     public SeminarResponse updateSeminar(Long id, SeminarRequest request) {
         Seminar seminar = seminarRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Seminar not found with id: " + id));
@@ -100,14 +111,17 @@ public class SeminarService {
         seminar.setIsPublic(request.getIsPublic());
         seminar.setAttachmentUrl(request.getAttachmentUrl());
 
+        eventPublisher.publishEvent(SearchDocumentEvent.saved(seminar));
         return SeminarResponse.from(seminar);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUBLIC_SEMINARS, allEntries = true)
     public void deleteSeminar(Long id) {
         if (!seminarRepository.existsById(id)) {
             throw new RuntimeException("Seminar not found with id: " + id);
         }
         seminarRepository.deleteById(id);
+        eventPublisher.publishEvent(SearchDocumentEvent.deleted(SearchDocumentType.SEMINAR, id));
     }
 }
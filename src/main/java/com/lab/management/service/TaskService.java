@@ -1,22 +1,36 @@
 package com.lab.management.service;
 
+import com.lab.management.config.CacheConfig;
+import com.lab.management.dto.mapper.ResearcherMapper;
 import com.lab.management.dto.mapper.TaskMapper;
 import com.lab.management.dto.request.TaskRequest;
+import com.lab.management.dto.response.ResearcherResponse;
 import com.lab.management.dto.response.TaskResponse;
 import com.lab.management.entity.Project;
 import com.lab.management.entity.Researcher;
 import com.lab.management.entity.Task;
 import com.lab.management.entity.TaskStatus;
+import com.lab.management.event.StatusChangedEvent;
 import com.lab.management.exception.ResourceNotFoundException;
 import com.lab.management.repository.ProjectRepository;
+import com.lab.management.repository.ResearchAreaAssignment;
 import com.lab.management.repository.ResearcherRepository;
+import com.lab.management.repository.TaskAssigneeSummary;
 import com.lab.management.repository.TaskRepository;
+import com.lab.management.repository.TaskSummary;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,11 +41,13 @@ public class TaskService {
     private final ProjectRepository projectRepository;
     private final ResearcherRepository researcherRepository;
     private final TaskMapper taskMapper;
+    private final ResearcherMapper researcherMapper;
     private final ProjectHistoryService projectHistoryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<TaskResponse> getAllTasks() {
-        List<Task> tasks = taskRepository.findAll();
-        return taskMapper.toResponseList(tasks);
+        List<TaskSummary> tasks = taskRepository.findAllSummaries();
+        return toResponseList(tasks);
     }
 
     public List<TaskResponse> getTasksByStatus(TaskStatus status) {
@@ -46,13 +62,46 @@ public class TaskService {
     }
 
     public List<TaskResponse> getTasksByProjectId(Long projectId) {
-        List<Task> tasks = taskRepository.findByProjectId(projectId);
-        return taskMapper.toResponseList(tasks);
+        List<TaskSummary> tasks = taskRepository.findSummariesByProjectId(projectId);
+        return toResponseList(tasks);
     }
 
     public List<TaskResponse> getTasksByResearcherId(Long researcherId) {
-        List<Task> tasks = taskRepository.findByResearcherId(researcherId);
-        return taskMapper.toResponseList(tasks);
+        List<TaskSummary> tasks = taskRepository.findSummariesByResearcherId(researcherId);
+        return toResponseList(tasks);
+    }
+
+    // Builds list responses from projections: task rows, assignee rows and research areas (3 queries)
+    private List<TaskResponse> toResponseList(List<TaskSummary> tasks) {
+        List<TaskResponse> responses = tasks.stream()
+                .map(taskMapper::toResponse)
+                .collect(Collectors.toList());
+        if (responses.isEmpty()) {
+            return responses;
+        }
+
+        Set<Long> taskIds = responses.stream().map(TaskResponse::getId).collect(Collectors.toSet());
+        List<TaskAssigneeSummary> assignees = taskRepository.findAssigneeSummaries(taskIds);
+
+        Map<Long, List<String>> researchAreas = new HashMap<>();
+        if (!assignees.isEmpty()) {
+            Set<Long> researcherIds = assignees.stream().map(TaskAssigneeSummary::getId).collect(Collectors.toSet());
+            for (ResearchAreaAssignment area : researcherRepository.findResearchAreasByResearcherIds(researcherIds)) {
+                researchAreas.computeIfAbsent(area.getResearcherId(), id -> new ArrayList<>()).add(area.getResearchArea());
+            }
+        }
+
+        Map<Long, List<ResearcherResponse>> assigneesByTask = new HashMap<>();
+        for (TaskAssigneeSummary assignee : assignees) {
+            ResearcherResponse researcher = researcherMapper.toResponse(assignee);
+            researcher.setResearchAreas(researchAreas.getOrDefault(assignee.getId(), new ArrayList<>()));
+            assigneesByTask.computeIfAbsent(assignee.getTaskId(), id -> new ArrayList<>()).add(researcher);
+        }
+
+        for (TaskResponse response : responses) {
+            response.setAssignees(assigneesByTask.getOrDefault(response.getId(), new ArrayList<>()));
+        }
+        return responses;
     }
 
     public List<TaskResponse> getOverdueTasks() {
@@ -61,6 +110,7 @@ public class TaskService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_PROJECTS, allEntries = true)
     public TaskResponse createTask(TaskRequest request) {
         Task task = taskMapper.toEntity(request);
 
@@ -81,15 +131,19 @@ public class TaskService {
         }
 
         Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(StatusChangedEvent.created(savedTask.getStatus()));
         return taskMapper.toResponse(savedTask);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_PROJECTS, allEntries = true)
     public TaskResponse updateTask(Long id, TaskRequest request) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
+        TaskStatus previousStatus = task.getStatus();
 
         taskMapper.updateEntityFromRequest(request, task);
+        task.touch();
 
         // Update project if changed
         if (request.getProjectId() != null && !task.getProject().getId().equals(request.getProjectId())) {
@@ -105,14 +159,17 @@ public class TaskService {
         }
 
         Task updatedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(StatusChangedEvent.updated(previousStatus, updatedTask.getStatus()));
         return taskMapper.toResponse(updatedTask);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_PROJECTS, allEntries = true)
     public void deleteTask(Long id) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
         taskRepository.delete(task);
+        eventPublisher.publishEvent(StatusChangedEvent.deleted(task.getStatus()));
     }
 
     public long countByStatus(TaskStatus status) {
@@ -134,12 +191,14 @@ public class TaskService {
 
         // Add researcher to assignees
         task.getAssignees().add(researcher);
+        task.touch();
         Task updatedTask = taskRepository.save(task);
 
         return taskMapper.toResponse(updatedTask);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_PROJECTS, allEntries = true)
     public TaskResponse createTaskWithHistory(TaskRequest request, Researcher researcher) {
         TaskResponse taskResponse = createTask(request);
 
@@ -156,6 +215,7 @@ public class TaskService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_PROJECTS, allEntries = true)
     public TaskResponse updateTaskWithHistory(Long id, TaskRequest request, Researcher researcher) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
@@ -182,6 +242,7 @@ public class TaskService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_PROJECTS, allEntries = true)
     public void deleteTaskWithHistory(Long id, Researcher researcher) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
@@ -190,6 +251,7 @@ public class TaskService {
 
         // Delete the task
         taskRepository.delete(task);
+        eventPublisher.publishEvent(StatusChangedEvent.deleted(task.getStatus()));
 
         // Log history
         projectHistoryService.logHistory(project, researcher, "TASK_DELETED",
@@ -1,15 +1,20 @@
 package com.lab.management.service;
 
+import com.lab.management.config.CacheConfig;
 import com.lab.management.dto.request.PasswordChangeRequest;
 import com.lab.management.dto.request.UserAccountRequest;
 import com.lab.management.entity.Researcher;
 import com.lab.management.entity.Role;
 import com.lab.management.entity.User;
+import com.lab.management.event.UserAccountChangedEvent;
 import com.lab.management.exception.ResourceAlreadyExistsException;
 import com.lab.management.exception.ResourceNotFoundException;
 import com.lab.management.repository.ResearcherRepository;
 import com.lab.management.repository.UserRepository;
+import com.lab.management.security.jwt.JwtUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,8 +27,11 @@ public class UserService {
     private final UserRepository userRepository;
     private final ResearcherRepository researcherRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JwtUtils jwtUtils;
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_RESEARCHERS, allEntries = true)
     public User createUserAccount(Long researcherId, UserAccountRequest request) {
         // Check if researcher exists
         Researcher researcher = researcherRepository.findById(researcherId)
@@ -47,10 +55,13 @@ public class UserService {
                 .enabled(true)
                 .build();
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(savedUser.getUsername()));
+        return savedUser;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_RESEARCHERS, allEntries = true)
     public void updateUsername(Long researcherId, String newUsername) {
         User user = userRepository.findByResearcherId(researcherId)
                 .orElseThrow(() -> new ResourceNotFoundException("User account", "researcherId", researcherId));
@@ -60,8 +71,12 @@ public class UserService {
             throw new ResourceAlreadyExistsException("User", "username", newUsername);
         }
 
+        String previousUsername = user.getUsername();
         user.setUsername(newUsername);
+        revokeTokens(user);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(previousUsername));
+        eventPublisher.publishEvent(new UserAccountChangedEvent(newUsername));
     }
 
     @Transactional
@@ -70,10 +85,13 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User account", "researcherId", researcherId));
 
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+        revokeTokens(user);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getUsername()));
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_RESEARCHERS, allEntries = true)
     public void updateMyUsername(String currentUsername, String newUsername) {
         User user = userRepository.findByUsername(currentUsername)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "username", currentUsername));
@@ -83,12 +101,17 @@ public class UserService {
             throw new ResourceAlreadyExistsException("User", "username", newUsername);
         }
 
+        String previousUsername = user.getUsername();
         user.setUsername(newUsername);
+        revokeTokens(user);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(previousUsername));
+        eventPublisher.publishEvent(new UserAccountChangedEvent(newUsername));
     }
 
+    // 비밀번호 변경 후 기존 토큰은 모두 무효화하고, 호출한 세션이 계속 쓸 새 토큰을 발급
     @Transactional
-    public void changeMyPassword(String currentUsername, PasswordChangeRequest request) {
+    public String changeMyPassword(String currentUsername, PasswordChangeRequest request) {
         User user = userRepository.findByUsername(currentUsername)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "username", currentUsername));
 
@@ -98,14 +121,24 @@ public class UserService {
         }
 
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+        revokeTokens(user);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getUsername()));
+        return jwtUtils.generateTokenForUser(user);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_RESEARCHERS, allEntries = true)
     public void deleteUserAccount(Long researcherId) {
         User user = userRepository.findByResearcherId(researcherId)
                 .orElseThrow(() -> new ResourceNotFoundException("User account", "researcherId", researcherId));
 
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getUsername()));
+    }
+
+    // 토큰 버전을 올려 기존에 발급된 JWT를 무효화
+    private void revokeTokens(User user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
     }
 }
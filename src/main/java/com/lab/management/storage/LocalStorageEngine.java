@@ -0,0 +1,315 @@
+package com.lab.management.storage;
+
+import com.lab.management.exception.InvalidUploadException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StorageEngine} on the local upload directory.
+ *
+ * Staging streams through a fixed buffer into {@code uploads/.incoming}, so each byte is read
+ * once, hashed, counted and written once; publishing is a rename into the upload directory's
+ * two-level fan-out (see {@link UploadLayout}).
+ * {@code file.storage.durability} decides what an acknowledged upload survives:
+ * {@code none} leaves flushing to the OS, {@code file} fsyncs the file and the directory on the
+ * request thread, and {@code group} fsyncs the file on the request thread but hands the rename to
+ * a single committer, which publishes every rename queued while its previous directory fsync ran
+ * and then fsyncs each affected directory once for the whole batch, so concurrent uploads share
+ * those fsyncs instead of each serializing on a directory. With durability on, large uploads are also
+ * synced every {@code sync-every} bytes while they are written, which keeps the dirty page cache
+ * (and the final fsync) small instead of flushing hundreds of megabytes at once.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "file.storage.backend", havingValue = "local", matchIfMissing = true)
+public class LocalStorageEngine implements StorageEngine, MeterBinder, DisposableBean {
+
+    private static final String INCOMING_DIR = ".incoming";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_BATCH = 256;
+
+    public enum Durability {
+        NONE, FILE, GROUP
+    }
+
+    private final Path uploadRoot;
+    private final Durability durability;
+    private final long syncEvery;
+
+    private final LinkedBlockingQueue<PendingPublish> commitQueue = new LinkedBlockingQueue<>();
+    private final Thread committer;
+    private volatile Timer publishTimer;
+
+    public LocalStorageEngine(@Value("${file.upload-dir:uploads}") String uploadDir,
+                              @Value("${file.storage.durability:group}") Durability durability,
+                              @Value("${file.storage.sync-every:8MB}") DataSize syncEvery) {
+        this.uploadRoot = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.durability = durability;
+        this.syncEvery = syncEvery.toBytes();
+        if (durability == Durability.GROUP) {
+            committer = new Thread(this::runCommitter, "storage-group-commit");
+            committer.setDaemon(true);
+            committer.start();
+        } else {
+            committer = null;
+        }
+        log.info("Local storage at {} (durability {})", uploadRoot, durability);
+    }
+
+    @Override
+    public StagedBlob stage(InputStream in, long expectedSize) throws IOException {
+        Files.createDirectories(incomingPath());
+        Path temp = Files.createTempFile(incomingPath(), "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long size = 0;
+            long unsynced = 0;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (expectedSize != UNKNOWN_SIZE && size > expectedSize) {
+                        throw sizeMismatch(expectedSize, size);
+                    }
+                    digest.update(buffer, 0, read);
+                    wrapped.clear().limit(read);
+                    while (wrapped.hasRemaining()) {
+                        channel.write(wrapped);
+                    }
+                    unsynced += read;
+                    if (durability != Durability.NONE && unsynced >= syncEvery) {
+                        channel.force(false);
+                        unsynced = 0;
+                    }
+                }
+            }
+            if (expectedSize != UNKNOWN_SIZE && size != expectedSize) {
+                throw sizeMismatch(expectedSize, size);
+            }
+            return new StagedBlob(temp, HexFormat.of().formatHex(digest.digest()), size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    @Override
+    public StagedBlob adopt(Path file, long expectedSize) throws IOException {
+        MessageDigest digest = sha256();
+        long size = 0;
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+                size += read;
+            }
+        }
+        if (expectedSize != UNKNOWN_SIZE && size != expectedSize) {
+            throw sizeMismatch(expectedSize, size);
+        }
+        return new StagedBlob(file, HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    @Override
+    public void publish(StagedBlob blob, String name) throws IOException {
+        Path target = UploadLayout.shardedPath(uploadRoot, name);
+        long start = System.nanoTime();
+        try {
+            createShard(target.getParent());
+            switch (durability) {
+                case NONE -> Files.move(blob.getPath(), target, StandardCopyOption.ATOMIC_MOVE);
+                case FILE -> {
+                    force(blob.getPath());
+                    Files.move(blob.getPath(), target, StandardCopyOption.ATOMIC_MOVE);
+                    forceDirectory(target.getParent());
+                }
+                case GROUP -> {
+                    force(blob.getPath());
+                    awaitGroupCommit(blob.getPath(), target);
+                }
+            }
+        } finally {
+            if (publishTimer != null) {
+                publishTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    @Override
+    public void discard(StagedBlob blob) {
+        try {
+            Files.deleteIfExists(blob.getPath());
+        } catch (IOException e) {
+            log.error("Failed to delete staged upload {}", blob.getPath(), e);
+        }
+    }
+
+    // 평면 경로를 먼저 삭제 (그 사이 마이그레이션이 옮겼다면 샤딩 경로에서 삭제됨)
+    @Override
+    public boolean delete(String name) throws IOException {
+        boolean flat = Files.deleteIfExists(UploadLayout.flatPath(uploadRoot, name));
+        boolean sharded = Files.deleteIfExists(UploadLayout.shardedPath(uploadRoot, name));
+        return flat || sharded;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        publishTimer = Timer.builder("storage.publish")
+                .description("Time to make a staged upload durable and visible")
+                .tag("durability", durability.name().toLowerCase(Locale.ROOT))
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        if (committer != null) {
+            committer.interrupt();
+        }
+    }
+
+    private void awaitGroupCommit(Path source, Path target) throws IOException {
+        PendingPublish pending = new PendingPublish(source, target);
+        commitQueue.add(pending);
+        try {
+            pending.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for group commit", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw new IOException("Group commit failed", e.getCause());
+        }
+    }
+
+    // 앞선 디렉토리 fsync 동안 쌓인 게시 요청을 모아 rename 후 샤드 디렉토리별 fsync 한 번으로 영속화
+    private void runCommitter() {
+        List<PendingPublish> batch = new ArrayList<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(commitQueue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            commitQueue.drainTo(batch, MAX_BATCH - 1);
+
+            List<PendingPublish> moved = new ArrayList<>(batch.size());
+            for (PendingPublish pending : batch) {
+                try {
+                    Files.move(pending.source, pending.target, StandardCopyOption.ATOMIC_MOVE);
+                    moved.add(pending);
+                } catch (IOException | RuntimeException e) {
+                    pending.result.completeExceptionally(e);
+                }
+            }
+            try {
+                Set<Path> directories = new HashSet<>();
+                for (PendingPublish pending : moved) {
+                    if (directories.add(pending.target.getParent())) {
+                        forceDirectory(pending.target.getParent());
+                    }
+                }
+                moved.forEach(pending -> pending.result.complete(null));
+            } catch (IOException e) {
+                moved.forEach(pending -> pending.result.completeExceptionally(e));
+            }
+            batch.clear();
+        }
+        PendingPublish pending;
+        while ((pending = commitQueue.poll()) != null) {
+            pending.result.completeExceptionally(new IOException("Storage is shutting down"));
+        }
+    }
+
+    // 샤드 디렉토리 생성 (새로 만들었고 영속성이 켜져 있으면 상위 디렉토리도 fsync)
+    private void createShard(Path shard) throws IOException {
+        if (Files.isDirectory(shard)) {
+            return;
+        }
+        Files.createDirectories(shard);
+        if (durability != Durability.NONE) {
+            forceDirectory(shard.getParent());
+            forceDirectory(uploadRoot);
+        }
+    }
+
+    private static void force(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    // rename을 영속화하기 위해 디렉토리 fsync (지원하지 않는 플랫폼에서는 무시)
+    private static void forceDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (UnsupportedOperationException | AccessDeniedException e) {
+            log.debug("Directory fsync not supported for {}", directory);
+        }
+    }
+
+    private static InvalidUploadException sizeMismatch(long expected, long actual) {
+        return new InvalidUploadException(actual > expected
+                ? String.format("Upload exceeds the declared size of %d bytes", expected)
+                : String.format("Upload size mismatch: expected %d bytes, received %d", expected, actual));
+    }
+
+    private Path incomingPath() {
+        return uploadRoot.resolve(INCOMING_DIR);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static class PendingPublish {
+        private final Path source;
+        private final Path target;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private PendingPublish(Path source, Path target) {
+            this.source = source;
+            this.target = target;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.lab.management.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.net.URI;
+import java.time.Instant;
+
+/**
+ * Time-limited URL from which a client can download a stored file directly from the backend.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PresignedUrl {
+
+    private final URI uri;
+    private final Instant expiration;
+}
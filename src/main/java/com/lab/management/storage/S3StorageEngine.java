@@ -0,0 +1,139 @@
+package com.lab.management.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * {@link StorageEngine} on an S3-compatible object store, so every application node sees the
+ * same files.
+ *
+ * Uploads are still staged on local disk (hash and size measured in the same single pass as
+ * {@link LocalStorageEngine}), then sent with one {@code PutObject} carrying the SHA-256 as
+ * {@code x-amz-checksum-sha256}, so the store rejects anything that arrives different from what
+ * was hashed; the object only becomes visible once the PUT completes. Objects are written with
+ * immutable caching (names are content digests) and served through presigned GET URLs, which
+ * leaves ranges and conditional requests to the store.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "file.storage.backend", havingValue = "s3")
+public class S3StorageEngine implements StorageEngine {
+
+    private static final String IMMUTABLE = "max-age=31536000, public, immutable";
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final LocalStorageEngine staging;
+    private final String bucket;
+    private final String keyPrefix;
+    private final Duration presignTtl;
+
+    public S3StorageEngine(S3Client s3Client, S3Presigner s3Presigner,
+                           @Value("${file.upload-dir:uploads}") String uploadDir,
+                           @Value("${file.storage.s3.bucket}") String bucket,
+                           @Value("${file.storage.s3.key-prefix:uploads/}") String keyPrefix,
+                           @Value("${file.storage.s3.presign-ttl:10m}") Duration presignTtl,
+                           @Value("${file.storage.s3.create-bucket:false}") boolean createBucket) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        // 스테이징만 로컬 디스크 사용 (영속성은 객체 스토리지가 보장하므로 fsync 없음)
+        this.staging = new LocalStorageEngine(uploadDir, LocalStorageEngine.Durability.NONE, DataSize.ofBytes(Long.MAX_VALUE));
+        this.bucket = bucket;
+        this.keyPrefix = keyPrefix;
+        this.presignTtl = presignTtl;
+        if (createBucket) {
+            ensureBucket();
+        }
+        log.info("S3 storage: bucket {}, key prefix '{}'", bucket, keyPrefix);
+    }
+
+    @Override
+    public StagedBlob stage(InputStream in, long expectedSize) throws IOException {
+        return staging.stage(in, expectedSize);
+    }
+
+    @Override
+    public StagedBlob adopt(Path file, long expectedSize) throws IOException {
+        return staging.adopt(file, expectedSize);
+    }
+
+    @Override
+    public void publish(StagedBlob blob, String name) throws IOException {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key(name))
+                .contentLength(blob.getSize())
+                .contentType(MediaTypeFactory.getMediaType(name).orElse(MediaType.APPLICATION_OCTET_STREAM).toString())
+                .cacheControl(IMMUTABLE)
+                .checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(blob.getDigest())))
+                .build();
+        try {
+            s3Client.putObject(request, RequestBody.fromFile(blob.getPath()));
+        } catch (SdkException e) {
+            throw new IOException("Failed to upload " + name + " to bucket " + bucket, e);
+        }
+        staging.discard(blob);
+    }
+
+    @Override
+    public void discard(StagedBlob blob) {
+        staging.discard(blob);
+    }
+
+    @Override
+    public boolean delete(String name) throws IOException {
+        try {
+            s3Client.deleteObject(builder -> builder.bucket(bucket).key(key(name)));
+            return true;
+        } catch (SdkException e) {
+            throw new IOException("Failed to delete " + name + " from bucket " + bucket, e);
+        }
+    }
+
+    @Override
+    public Optional<PresignedUrl> presign(String name) {
+        PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(builder -> builder
+                .signatureDuration(presignTtl)
+                .getObjectRequest(request -> request.bucket(bucket).key(key(name))));
+        try {
+            return Optional.of(new PresignedUrl(presigned.url().toURI(), presigned.expiration()));
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Invalid presigned URL for " + name, e);
+        }
+    }
+
+    private String key(String name) {
+        return keyPrefix + name;
+    }
+
+    // 로컬 개발용 (MinIO 등): 버킷이 없으면 생성
+    private void ensureBucket() {
+        try {
+            s3Client.headBucket(builder -> builder.bucket(bucket));
+        } catch (NoSuchBucketException e) {
+            s3Client.createBucket(builder -> builder.bucket(bucket));
+            log.info("Created bucket {}", bucket);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.lab.management.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.file.Path;
+
+/**
+ * Upload bytes written to a private temporary file by a {@link StorageEngine}, with the SHA-256
+ * digest and size measured while they were written. Not visible to readers until
+ * {@link StorageEngine#publish published}; {@link StorageEngine#discard discarded} otherwise.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StagedBlob {
+
+    private final Path path;
+    private final String digest;
+    private final long size;
+}
@@ -0,0 +1,41 @@
+package com.lab.management.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Storage backend for uploads. Bytes are staged once (hashed and counted while they are
+ * written), then published under their final name in a single atomic step, so a reader never sees
+ * a partially written file. Durability of {@link #publish} is up to the implementation's
+ * configuration.
+ *
+ * {@code file.storage.backend} selects the implementation: {@link LocalStorageEngine} (the upload
+ * directory, default) or {@link S3StorageEngine} (an S3-compatible object store shared by all
+ * application nodes).
+ */
+public interface StorageEngine {
+
+    long UNKNOWN_SIZE = -1;
+
+    // 스트림을 임시 파일에 한 번 쓰면서 SHA-256과 크기를 계산 (expectedSize와 다르면 InvalidUploadException)
+    StagedBlob stage(InputStream in, long expectedSize) throws IOException;
+
+    // 이미 디스크에 쓰인 파일(청크 업로드 결과)을 읽어 해시 계산 후 스테이징 (실패하면 파일은 그대로 둠)
+    StagedBlob adopt(Path file, long expectedSize) throws IOException;
+
+    // 스테이징된 파일을 최종 이름으로 원자적으로 게시 (실패하면 스테이징 파일을 지울지는 호출자가 결정)
+    void publish(StagedBlob blob, String name) throws IOException;
+
+    // 게시하지 않을 스테이징 파일 삭제 (중복 업로드 등)
+    void discard(StagedBlob blob);
+
+    // 게시된 파일 삭제 (없었으면 false, 존재 여부를 알 수 없는 백엔드는 true)
+    boolean delete(String name) throws IOException;
+
+    // 클라이언트가 백엔드에서 직접 내려받을 임시 URL (로컬 디스크처럼 지원하지 않으면 empty)
+    default Optional<PresignedUrl> presign(String name) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,59 @@
+package com.lab.management.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Where a stored file lives under a local storage root.
+ *
+ * New files go to a two-level fan-out keyed by the SHA-256 of the file name
+ * ({@code <root>/3f/a2/<name>}, at most 256 entries per level), so no directory grows with the
+ * number of uploads. Files written before the fan-out sit directly under the root until
+ * {@link UploadLayoutMigrator} moves them; {@link #resolve} finds a file in either place.
+ */
+public final class UploadLayout {
+
+    private UploadLayout() {
+    }
+
+    public static Path shardedPath(Path root, String name) {
+        String hash = HexFormat.of().formatHex(sha256().digest(name.getBytes(StandardCharsets.UTF_8)));
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(name);
+    }
+
+    public static Path flatPath(Path root, String name) {
+        return root.resolve(name);
+    }
+
+    // 샤딩 경로에 있는 파일인지 (마이그레이션이 옮기지 않는 위치)
+    public static boolean isSharded(Path path) {
+        Path shard = path.getParent();
+        Path root = shard != null && shard.getParent() != null ? shard.getParent().getParent() : null;
+        return root != null && shardedPath(root, path.getFileName().toString()).equals(path);
+    }
+
+    // 샤딩 경로 → 평면 경로 → 샤딩 경로 순으로 확인 (확인 사이에 마이그레이션이 옮긴 파일도 찾도록), 없으면 null
+    public static Path resolve(Path root, String name) {
+        Path sharded = shardedPath(root, name);
+        if (Files.isRegularFile(sharded)) {
+            return sharded;
+        }
+        Path flat = flatPath(root, name);
+        if (Files.isRegularFile(flat)) {
+            return flat;
+        }
+        return Files.isRegularFile(sharded) ? sharded : null;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.lab.management.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Moves files from the old flat upload directory into the two-level fan-out of
+ * {@link UploadLayout} while the application is serving.
+ *
+ * Runs once per start on its own background thread, in batches of {@code batch-size} renames paced
+ * to {@code max-files-per-second} with {@code batch-pause} between batches, so it never competes
+ * with uploads and downloads for long. Progress is the directory itself (a moved file is no
+ * longer in the flat listing), so an interrupted migration simply continues on the next start.
+ * Readers find a file in either place throughout; the derivative directory is migrated the same
+ * way.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "file.storage.backend", havingValue = "local", matchIfMissing = true)
+public class UploadLayoutMigrator implements DisposableBean {
+
+    private static final String DERIVATIVE_DIR = ".derivatives";
+
+    @Value("${file.upload-dir:uploads}")
+    private String uploadDir;
+
+    @Value("${file.storage.migration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${file.storage.migration.batch-size:200}")
+    private int batchSize;
+
+    @Value("${file.storage.migration.batch-pause:1s}")
+    private Duration batchPause;
+
+    @Value("${file.storage.migration.max-files-per-second:100}")
+    private int maxFilesPerSecond;
+
+    private volatile Thread worker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        worker = new Thread(() -> {
+            try {
+                migrate();
+            } catch (InterruptedException e) {
+                log.info("Upload layout migration paused; it resumes on the next start");
+            }
+        }, "upload-layout-migrator");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void destroy() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    // 평면 디렉토리가 빌 때까지 배치 단위로 이동 (원본, 파생 이미지 순), 이동한 파일 수 반환
+    public long migrate() throws InterruptedException {
+        Path uploadRoot = Paths.get(uploadDir).toAbsolutePath().normalize();
+        long total = 0;
+        Set<Path> failed = new HashSet<>();
+        for (Path root : List.of(uploadRoot, uploadRoot.resolve(DERIVATIVE_DIR))) {
+            int moved;
+            do {
+                moved = migrateBatch(root, failed);
+                total += moved;
+                if (moved > 0) {
+                    log.info("Moved {} files into the sharded layout under {} ({} so far)", moved, root, total);
+                    Thread.sleep(batchPause.toMillis());
+                }
+            } while (moved > 0);
+        }
+        if (total > 0) {
+            log.info("Upload layout migration finished: {} files moved", total);
+        }
+        return total;
+    }
+
+    // 평면 경로에 남은 파일을 최대 batchSize개 샤딩 경로로 이동 (초당 maxFilesPerSecond로 제한)
+    private int migrateBatch(Path root, Set<Path> failed) throws InterruptedException {
+        List<Path> batch = listFlatFiles(root, failed);
+        long interval = 1000L / Math.max(1, maxFilesPerSecond);
+        int moved = 0;
+        for (Path source : batch) {
+            String name = source.getFileName().toString();
+            Path target = UploadLayout.shardedPath(root, name);
+            try {
+                Files.createDirectories(target.getParent());
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+                moved++;
+            } catch (NoSuchFileException e) {
+                // 그 사이 삭제됨
+            } catch (IOException e) {
+                failed.add(source);
+                log.warn("Failed to move {} into the sharded layout: {}", source, e.getMessage());
+            }
+            Thread.sleep(interval);
+        }
+        return moved;
+    }
+
+    // 루트 바로 아래의 일반 파일 (숨김 파일/디렉토리, 샤드 디렉토리, 이동에 실패한 파일 제외)
+    private List<Path> listFlatFiles(Path root, Set<Path> failed) {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(root)) {
+            return files;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(root)) {
+            for (Path entry : entries) {
+                if (files.size() >= batchSize) {
+                    break;
+                }
+                if (!entry.getFileName().toString().startsWith(".") && !failed.contains(entry)
+                        && Files.isRegularFile(entry)) {
+                    files.add(entry);
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to list {} for layout migration", root, e);
+        }
+        return files;
+    }
+}
@@ -0,0 +1,225 @@
+package com.lab.management.controller;
+
+import com.lab.management.dto.request.ProjectRequest;
+import com.lab.management.entity.Grade;
+import com.lab.management.entity.Notice;
+import com.lab.management.entity.Priority;
+import com.lab.management.entity.Project;
+import com.lab.management.entity.ProjectStatus;
+import com.lab.management.entity.Researcher;
+import com.lab.management.entity.ResearcherStatus;
+import com.lab.management.repository.NoticeRepository;
+import com.lab.management.repository.ProjectRepository;
+import com.lab.management.repository.ResearcherRepository;
+import com.lab.management.service.ProjectService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+public class ConditionalListRequestTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ResearcherRepository researcherRepository;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Researcher author;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        author = researcherRepository.save(Researcher.builder()
+                .name("ETag Tester")
+                .studentId("ETAG-" + System.nanoTime())
+                .grade(Grade.GRADUATE)
+                .email("etag" + System.nanoTime() + "@lab.test")
+                .status(ResearcherStatus.ACTIVE)
+                .joinDate(LocalDate.now())
+                .build());
+        saveNotice("First notice");
+    }
+
+    @Test
+    public void unchangedNoticeListIsAnsweredWithNotModifiedFromOneQuery() throws Exception {
+        String eTag = mockMvc.perform(get("/public/notices"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        statistics.clear();
+        mockMvc.perform(get("/public/notices").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void newNoticeChangesTheValidator() throws Exception {
+        String eTag = mockMvc.perform(get("/public/notices/latest"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        saveNotice("Second notice");
+
+        // Saved without the service, so the cached list is not evicted; the new validator must
+        // still come with the new body
+        String refreshed = mockMvc.perform(get("/public/notices/latest").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].title").value("Second notice"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(refreshed).isNotEqualTo(eTag);
+    }
+
+    @Test
+    public void cachedNoticeListIsReloadedWhenTheAuthorChanges() throws Exception {
+        String eTag = mockMvc.perform(get("/public/notices"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].authorName").value("ETag Tester"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        author.setName("Renamed Tester");
+        researcherRepository.save(author);
+
+        String refreshed = mockMvc.perform(get("/public/notices").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].authorName").value("Renamed Tester"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(refreshed).isNotEqualTo(eTag);
+
+        // The reloaded body is cached under the new validator
+        statistics.clear();
+        mockMvc.perform(get("/public/notices"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, refreshed))
+                .andExpect(jsonPath("$.data.content[0].authorName").value("Renamed Tester"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @WithMockUser(roles = "RESEARCHER")
+    public void editedProjectChangesTheValidator() throws Exception {
+        Project project = projectRepository.save(Project.builder()
+                .name("ETag Project")
+                .status(ProjectStatus.PLANNING)
+                .priority(Priority.MEDIUM)
+                .startDate(LocalDate.now())
+                .build());
+        String eTag = mockMvc.perform(get("/user/projects"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Edits keep the row counts; the latest updated_at must invalidate the validator
+        project.setName("Renamed ETag Project");
+        projectRepository.save(project);
+
+        mockMvc.perform(get("/user/projects").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "RESEARCHER")
+    public void deletedProjectChangesTheValidator() throws Exception {
+        Project project = projectRepository.save(Project.builder()
+                .name("ETag Project")
+                .status(ProjectStatus.PLANNING)
+                .priority(Priority.MEDIUM)
+                .startDate(LocalDate.now())
+                .build());
+
+        String eTag = mockMvc.perform(get("/user/projects"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/user/projects").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        // Deletes leave no newer timestamp behind; the row count must invalidate the validator
+        projectRepository.delete(project);
+
+        mockMvc.perform(get("/user/projects").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "RESEARCHER")
+    public void swappedCategoriesAndMembersChangeTheValidator() throws Exception {
+        Researcher other = researcherRepository.save(Researcher.builder()
+                .name("Other Tester")
+                .studentId("ETAG-" + System.nanoTime())
+                .grade(Grade.GRADUATE)
+                .email("etag" + System.nanoTime() + "@lab.test")
+                .status(ResearcherStatus.ACTIVE)
+                .joinDate(LocalDate.now())
+                .build());
+        ProjectRequest request = ProjectRequest.builder()
+                .name("ETag Project")
+                .status(ProjectStatus.PLANNING)
+                .priority(Priority.MEDIUM)
+                .progress(0)
+                .isPublic(true)
+                .startDate(LocalDate.now())
+                .categories(List.of("Vision"))
+                .researcherIds(List.of(author.getId()))
+                .build();
+        Long projectId = projectService.createProject(request).getId();
+        String eTag = mockMvc.perform(get("/user/projects"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 조인 테이블의 행 수는 그대로, 내용만 바뀜
+        request.setCategories(List.of("Robotics"));
+        request.setResearcherIds(null);
+        projectService.updateProject(projectId, request);
+        String categoryETag = mockMvc.perform(get("/user/projects").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        request.setResearcherIds(List.of(other.getId()));
+        projectService.updateProject(projectId, request);
+        mockMvc.perform(get("/user/projects").header(HttpHeaders.IF_NONE_MATCH, categoryETag))
+                .andExpect(status().isOk());
+    }
+
+    private void saveNotice(String title) {
+        Notice notice = new Notice();
+        notice.setTitle(title);
+        notice.setContent("content");
+        notice.setIsPublic(true);
+        notice.setAuthor(author);
+        noticeRepository.save(notice);
+    }
+}
@@ -0,0 +1,48 @@
+package com.lab.management.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+public class CursorPageRequestTest {
+
+    private static final String[] CURSOR_ENDPOINTS = {
+            "/admin/boards/cursor", "/user/boards/cursor", "/admin/notices/cursor", "/user/notices/cursor"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    public void outOfRangePageSizesAreRejected() throws Exception {
+        for (String endpoint : CURSOR_ENDPOINTS) {
+            for (String size : new String[]{"0", "-5", "101", "1000000"}) {
+                mockMvc.perform(get(endpoint).param("size", size))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(jsonPath("$.data.size").exists());
+            }
+        }
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    public void pageSizesWithinRangeAreServed() throws Exception {
+        for (String endpoint : CURSOR_ENDPOINTS) {
+            mockMvc.perform(get(endpoint).param("size", "1"))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get(endpoint).param("size", "100"))
+                    .andExpect(status().isOk());
+        }
+    }
+}
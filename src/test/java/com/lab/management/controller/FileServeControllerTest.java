@@ -0,0 +1,189 @@
+package com.lab.management.controller;
+
+import com.lab.management.service.ImageDerivativeService;
+import com.lab.management.storage.PresignedUrl;
+import com.lab.management.storage.StorageEngine;
+import com.lab.management.storage.UploadLayout;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+public class FileServeControllerTest {
+
+    private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+    @TempDir
+    static Path uploadDir;
+
+    @DynamicPropertySource
+    static void uploadDirProperties(DynamicPropertyRegistry registry) {
+        registry.add("file.upload-dir", uploadDir::toString);
+        // 테스트가 평면 경로에 쓴 파일을 마이그레이션이 옮기지 않도록
+        registry.add("file.storage.migration.enabled", () -> "false");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ImageDerivativeService imageDerivativeService;
+
+    @SpyBean
+    private StorageEngine storageEngine;
+
+    private String filename;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filename = UUID.randomUUID() + ".txt";
+        Files.writeString(uploadDir.resolve(filename), CONTENT, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void fullResponseCarriesValidatorsAndImmutableCaching() throws Exception {
+        mockMvc.perform(get("/files/" + filename))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length()))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    public void conditionalRequestIsAnsweredWithNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/files/" + filename))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/files/" + filename).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void singleRangeReturnsPartialContent() throws Exception {
+        mockMvc.perform(get("/files/" + filename).header(HttpHeaders.RANGE, "bytes=10-15"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-15/" + CONTENT.length()))
+                .andExpect(content().string("abcdef"));
+
+        mockMvc.perform(get("/files/" + filename).header(HttpHeaders.RANGE, "bytes=-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("xyz"));
+    }
+
+    @Test
+    public void multipleRangesReturnByteranges() throws Exception {
+        MvcResult result = mockMvc.perform(get("/files/" + filename).header(HttpHeaders.RANGE, "bytes=0-1,34-35"))
+                .andExpect(status().isPartialContent())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentType()).startsWith("multipart/byteranges");
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("Content-Range: bytes 0-1/36").contains("Content-Range: bytes 34-35/36");
+    }
+
+    @Test
+    public void staleIfRangeFallsBackToFullContent() throws Exception {
+        mockMvc.perform(get("/files/" + filename)
+                        .header(HttpHeaders.RANGE, "bytes=10-15")
+                        .header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    public void unsatisfiableRangeIsRejected() throws Exception {
+        mockMvc.perform(get("/files/" + filename).header(HttpHeaders.RANGE, "bytes=100-200"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + CONTENT.length()));
+    }
+
+    @Test
+    public void sizedImageRequestServesTheDerivativeOnceGenerated() throws Exception {
+        String image = UUID.randomUUID() + ".png";
+        ImageIO.write(new BufferedImage(1000, 500, BufferedImage.TYPE_INT_RGB), "png", uploadDir.resolve(image).toFile());
+
+        mockMvc.perform(get("/files/" + image).param("size", "200"))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, Files.size(uploadDir.resolve(image))))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+
+        imageDerivativeService.generateDerivatives(image);
+        Path derivative = imageDerivativeService.derivativePath(image, imageDerivativeService.widthFor(200));
+
+        MvcResult result = mockMvc.perform(get("/files/" + image).param("size", "200"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andReturn();
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(Files.readAllBytes(derivative));
+        assertThat(ImageIO.read(derivative.toFile()).getWidth()).isEqualTo(256);
+    }
+
+    @Test
+    public void shardedFilesAreServedUnderBothPrefixes() throws Exception {
+        String sharded = UUID.randomUUID() + ".txt";
+        Path target = UploadLayout.shardedPath(uploadDir, sharded);
+        Files.createDirectories(target.getParent());
+        Files.writeString(target, CONTENT, StandardCharsets.UTF_8);
+
+        mockMvc.perform(get("/files/" + sharded))
+                .andExpect(status().isOk())
+                .andExpect(content().string(CONTENT));
+        mockMvc.perform(get("/uploads/" + sharded))
+                .andExpect(status().isOk())
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    public void localFilesAreServedFromDiskAndOnlyMissingOnesAreRedirectedToTheStore() throws Exception {
+        URI bucketUrl = URI.create("https://bucket.example/uploads/object?X-Amz-Signature=sig");
+        doReturn(Optional.of(new PresignedUrl(bucketUrl, Instant.now().plusSeconds(600))))
+                .when(storageEngine).presign(anyString());
+
+        // 객체 스토리지로 전환하기 전에 올린 파일은 로컬에만 있음
+        mockMvc.perform(get("/files/" + filename))
+                .andExpect(status().isOk())
+                .andExpect(content().string(CONTENT));
+        mockMvc.perform(get("/files/" + UUID.randomUUID() + ".txt"))
+                .andExpect(status().isFound())
+                .andExpect(header().string(HttpHeaders.LOCATION, bucketUrl.toString()));
+    }
+
+    @Test
+    public void pathsOutsideTheUploadDirectoryAreNotServed() throws Exception {
+        mockMvc.perform(get("/files/..%2Fsecret.txt"))
+                .andExpect(status().is4xxClientError());
+    }
+}
@@ -0,0 +1,144 @@
+package com.lab.management.controller;
+
+import com.lab.management.service.ImageDerivativeService;
+import com.lab.management.storage.LocalStorageEngine;
+import com.lab.management.storage.UploadLayout;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class FileServeModeTest {
+
+    private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+    @TempDir
+    Path uploadDir;
+
+    private ImageDerivativeService imageDerivativeService;
+    private FileServeController controller;
+    private MockMvc mockMvc;
+    private String filename;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filename = UUID.randomUUID() + ".txt";
+        Files.writeString(uploadDir.resolve(filename), CONTENT);
+
+        imageDerivativeService = spy(new ImageDerivativeService(List.of(256), 1, 1, 1_000_000));
+        ReflectionTestUtils.setField(imageDerivativeService, "uploadDir", uploadDir.toString());
+        controller = new FileServeController(imageDerivativeService,
+                new LocalStorageEngine(uploadDir.toString(), LocalStorageEngine.Durability.NONE, DataSize.ofMegabytes(8)));
+        ReflectionTestUtils.setField(controller, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(controller, "xAccelPrefix", "/internal-uploads/");
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    public void xAccelModeDelegatesTheBodyToNginx() throws Exception {
+        ReflectionTestUtils.setField(controller, "serveMode", FileServeController.ServeMode.X_ACCEL);
+
+        mockMvc.perform(get("/files/" + filename))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Accel-Redirect", "/internal-uploads/" + filename))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void sendfileModeHandsTheRequestedRegionToTheContainer() throws Exception {
+        ReflectionTestUtils.setField(controller, "serveMode", FileServeController.ServeMode.SENDFILE);
+
+        MvcResult result = mockMvc.perform(get("/files/" + filename)
+                        .requestAttr("org.apache.tomcat.sendfile.support", true)
+                        .header(HttpHeaders.RANGE, "bytes=10-15"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-15/" + CONTENT.length()))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 6))
+                .andExpect(content().string(""))
+                .andReturn();
+
+        assertThat(result.getRequest().getAttribute("org.apache.tomcat.sendfile.filename"))
+                .isEqualTo(uploadDir.resolve(filename).toAbsolutePath().normalize().toString());
+        assertThat(result.getRequest().getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(10L);
+        assertThat(result.getRequest().getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(16L);
+    }
+
+    @Test
+    public void sendfileModeFallsBackWithoutContainerSupport() throws Exception {
+        ReflectionTestUtils.setField(controller, "serveMode", FileServeController.ServeMode.SENDFILE);
+
+        mockMvc.perform(get("/files/" + filename))
+                .andExpect(status().isOk())
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    public void flatFilesAreCopiedThroughTheJvmWhileTheMigrationRuns() throws Exception {
+        ReflectionTestUtils.setField(controller, "serveMode", FileServeController.ServeMode.SENDFILE);
+        ReflectionTestUtils.setField(controller, "migrationEnabled", true);
+        String sharded = UUID.randomUUID() + ".txt";
+        Path shardedPath = UploadLayout.shardedPath(uploadDir, sharded);
+        Files.createDirectories(shardedPath.getParent());
+        Files.writeString(shardedPath, CONTENT);
+
+        MvcResult flat = mockMvc.perform(get("/files/" + filename)
+                        .requestAttr("org.apache.tomcat.sendfile.support", true))
+                .andExpect(status().isOk())
+                .andExpect(content().string(CONTENT))
+                .andReturn();
+        assertThat(flat.getRequest().getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+
+        MvcResult moved = mockMvc.perform(get("/files/" + sharded)
+                        .requestAttr("org.apache.tomcat.sendfile.support", true))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(moved.getRequest().getAttribute("org.apache.tomcat.sendfile.filename"))
+                .isEqualTo(shardedPath.toAbsolutePath().normalize().toString());
+    }
+
+    @Test
+    public void fileMovedByTheMigrationBeforeItIsReadIsLookedUpAgain() throws Exception {
+        String image = UUID.randomUUID() + ".png";
+        Path flat = uploadDir.resolve(image);
+        ImageIO.write(new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB), "png", flat.toFile());
+        byte[] bytes = Files.readAllBytes(flat);
+        // 원본을 찾은 직후 마이그레이션이 샤딩 경로로 옮긴 상황
+        doAnswer(invocation -> {
+            if (Files.exists(flat)) {
+                Path target = UploadLayout.shardedPath(uploadDir, image);
+                Files.createDirectories(target.getParent());
+                Files.move(flat, target);
+            }
+            return null;
+        }).when(imageDerivativeService).findOrSchedule(eq(image), anyInt());
+
+        mockMvc.perform(get("/files/" + image).param("size", "200"))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, bytes.length))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().bytes(bytes));
+    }
+}
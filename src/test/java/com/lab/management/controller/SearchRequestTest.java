@@ -0,0 +1,58 @@
+package com.lab.management.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+public class SearchRequestTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(roles = "RESEARCHER")
+    public void invalidPagingIsRejected() throws Exception {
+        String[][] invalid = {{"0", "0"}, {"0", "-1"}, {"0", "101"}, {"-1", "20"}};
+        for (String[] paging : invalid) {
+            mockMvc.perform(get("/user/search").param("q", "세미나").param("page", paging[0]).param("size", paging[1]))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/public/boards/search").param("keyword", "세미나").param("page", paging[0]).param("size", paging[1]))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    @WithMockUser(roles = "RESEARCHER")
+    public void deepPagesDoNotOverflow() throws Exception {
+        mockMvc.perform(get("/user/search").param("q", "세미나").param("page", String.valueOf(Integer.MAX_VALUE)).param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content").isEmpty());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    public void adminCanRebuildTheIndex() throws Exception {
+        mockMvc.perform(post("/admin/search/reindex"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isNumber());
+    }
+
+    @Test
+    @WithMockUser(roles = "RESEARCHER")
+    public void researchersCannotRebuildTheIndex() throws Exception {
+        mockMvc.perform(post("/admin/search/reindex"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,75 @@
+package com.lab.management.security.crypto;
+
+import com.lab.management.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OffloadingPasswordEncoderTest {
+
+    private OffloadingPasswordEncoder encoder;
+
+    @AfterEach
+    public void tearDown() {
+        encoder.destroy();
+    }
+
+    @Test
+    public void hashesOnThePoolAndFlagsWeakerHashesForUpgrade() {
+        encoder = new OffloadingPasswordEncoder(5, 1, 4);
+
+        String hash = encoder.encode("secret");
+
+        assertThat(hash).startsWith("$2a$05$");
+        assertThat(encoder.matches("secret", hash)).isTrue();
+        assertThat(encoder.matches("other", hash)).isFalse();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(encoder.upgradeEncoding(hash)).isFalse();
+    }
+
+    @Test
+    public void rejectsFastOnceTheQueueIsFull() throws Exception {
+        encoder = new OffloadingPasswordEncoder(4, 1, 1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        encoder.bindTo(registry);
+        String slowHash = new BCryptPasswordEncoder(13).encode("secret");
+
+        int callers = 4;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return encoder.matches("secret", slowHash);
+            }));
+        }
+        start.countDown();
+
+        int rejected = 0;
+        for (Future<Boolean> result : results) {
+            try {
+                assertThat(result.get()).isTrue();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(PasswordHashingBusyException.class);
+                rejected++;
+            }
+        }
+        pool.shutdown();
+
+        assertThat(rejected).isGreaterThanOrEqualTo(callers - 2);
+        assertThat(registry.get("password.hashing.rejected").counter().count()).isEqualTo(rejected);
+        assertThat(registry.get("executor.queued").tag("name", "passwordHashing").gauge()).isNotNull();
+    }
+}
@@ -0,0 +1,161 @@
+package com.lab.management.security.jwt;
+
+import com.jayway.jsonpath.JsonPath;
+import com.lab.management.config.CacheConfig;
+import com.lab.management.dto.request.PasswordChangeRequest;
+import com.lab.management.entity.Role;
+import com.lab.management.entity.User;
+import com.lab.management.repository.UserRepository;
+import com.lab.management.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+public class ClaimsAuthenticationTest {
+
+    private static final String PASSWORD = "secret-password";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        cacheManager.getCache(CacheConfig.TOKEN_VERSIONS).clear();
+
+        user = userRepository.save(User.builder()
+                .username("claims" + System.nanoTime())
+                .password(passwordEncoder.encode(PASSWORD))
+                .role(Role.RESEARCHER)
+                .enabled(true)
+                .build());
+    }
+
+    @Test
+    public void tokenWithCurrentVersionAuthenticatesWithoutQueries() throws Exception {
+        String token = jwtUtils.generateTokenForUser(user);
+
+        mockMvc.perform(get("/user/search").param("q", "anything").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        statistics.clear();
+        mockMvc.perform(get("/user/search").param("q", "anything").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    public void passwordChangeRevokesPreviouslyIssuedTokens() throws Exception {
+        String token = jwtUtils.generateTokenForUser(user);
+        mockMvc.perform(get("/user/search").param("q", "anything").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        userService.changeMyPassword(user.getUsername(), PasswordChangeRequest.builder()
+                .currentPassword(PASSWORD)
+                .newPassword("another-password")
+                .build());
+
+        mockMvc.perform(get("/user/search").param("q", "anything").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+
+        User reloaded = userRepository.findByUsername(user.getUsername()).orElseThrow();
+        mockMvc.perform(get("/user/search").param("q", "anything")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtils.generateTokenForUser(reloaded)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void passwordChangeEndpointReturnsAReplacementToken() throws Exception {
+        String oldToken = jwtUtils.generateTokenForUser(user);
+
+        MvcResult result = mockMvc.perform(put("/user/account/password")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + oldToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"currentPassword\":\"" + PASSWORD + "\",\"newPassword\":\"another-password\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String newToken = JsonPath.read(result.getResponse().getContentAsString(), "$.data");
+
+        mockMvc.perform(get("/user/search").param("q", "anything").header(HttpHeaders.AUTHORIZATION, "Bearer " + oldToken))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/user/search").param("q", "anything").header(HttpHeaders.AUTHORIZATION, "Bearer " + newToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void tokenOfADeletedAccountDoesNotPassForANewAccountWithTheSameUsername() throws Exception {
+        User admin = userRepository.save(User.builder()
+                .username("reused" + System.nanoTime())
+                .password(passwordEncoder.encode(PASSWORD))
+                .role(Role.ADMIN)
+                .enabled(true)
+                .build());
+        String staleToken = jwtUtils.generateTokenForUser(admin);
+
+        userRepository.delete(admin);
+        User successor = userRepository.save(User.builder()
+                .username(admin.getUsername())
+                .password(passwordEncoder.encode(PASSWORD))
+                .role(Role.RESEARCHER)
+                .enabled(true)
+                .build());
+        cacheManager.getCache(CacheConfig.TOKEN_VERSIONS).clear();
+        assertThat(successor.getTokenVersion()).isEqualTo(admin.getTokenVersion());
+
+        mockMvc.perform(get("/user/search").param("q", "anything").header(HttpHeaders.AUTHORIZATION, "Bearer " + staleToken))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/user/search").param("q", "anything")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtils.generateTokenForUser(successor)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void tokensWithoutClaimsFallBackToLoadingTheUser() throws Exception {
+        String token = jwtUtils.generateTokenFromUsername(user.getUsername());
+
+        mockMvc.perform(get("/user/search").param("q", "anything").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,38 @@
+package com.lab.management.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JwtUtilsTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hmac-sha-256";
+
+    private final JwtUtils jwtUtils = new JwtUtils(SECRET, 60_000);
+
+    @Test
+    public void validTokenYieldsClaimsFromSingleParse() {
+        String token = jwtUtils.generateTokenFromUsername("researcher");
+
+        Optional<Claims> claims = jwtUtils.parseValidClaims(token);
+
+        assertThat(claims).map(Claims::getSubject).contains("researcher");
+        assertThat(jwtUtils.validateJwtToken(token)).isTrue();
+    }
+
+    @Test
+    public void tamperedExpiredAndForeignTokensAreRejected() {
+        String token = jwtUtils.generateTokenFromUsername("researcher");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        String expired = new JwtUtils(SECRET, -60_000).generateTokenFromUsername("researcher");
+        String foreign = new JwtUtils(SECRET + "-other", 60_000).generateTokenFromUsername("researcher");
+
+        assertThat(jwtUtils.parseValidClaims(tampered)).isEmpty();
+        assertThat(jwtUtils.parseValidClaims(expired)).isEmpty();
+        assertThat(jwtUtils.parseValidClaims(foreign)).isEmpty();
+        assertThat(jwtUtils.parseValidClaims("not-a-jwt")).isEmpty();
+    }
+}
@@ -0,0 +1,184 @@
+package com.lab.management.security.service;
+
+import com.lab.management.config.CacheConfig;
+import com.lab.management.dto.request.LoginRequest;
+import com.lab.management.dto.request.PasswordChangeRequest;
+import com.lab.management.entity.Role;
+import com.lab.management.entity.User;
+import com.lab.management.event.UserAccountChangedEvent;
+import com.lab.management.repository.UserRepository;
+import com.lab.management.service.AuthService;
+import com.lab.management.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("dev")
+public class UserDetailsServiceImplTest {
+
+    private static final String PASSWORD = "secret-password";
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @SpyBean
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        cacheManager.getCache(CacheConfig.USER_DETAILS).clear();
+
+        user = userRepository.save(User.builder()
+                .username("details" + System.nanoTime())
+                .password(passwordEncoder.encode(PASSWORD))
+                .role(Role.RESEARCHER)
+                .enabled(true)
+                .build());
+    }
+
+    @Test
+    public void repeatedLoadsAreServedFromCacheWithFreshCopies() {
+        UserDetails first = userDetailsService.loadUserByUsername(user.getUsername());
+        ((CredentialsContainer) first).eraseCredentials();
+
+        statistics.clear();
+        UserDetails second = userDetailsService.loadUserByUsername(user.getUsername());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getTransactionCount()).isZero();
+        assertThat(second.getPassword()).isEqualTo(user.getPassword());
+        assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", CacheConfig.USER_DETAILS).gauge().value())
+                .isPositive();
+    }
+
+    @Test
+    public void passwordChangeEvictsTheCachedAccount() {
+        userDetailsService.loadUserByUsername(user.getUsername());
+
+        userService.changeMyPassword(user.getUsername(), PasswordChangeRequest.builder()
+                .currentPassword(PASSWORD)
+                .newPassword("another-password")
+                .build());
+
+        UserDetails reloaded = userDetailsService.loadUserByUsername(user.getUsername());
+        assertThat(passwordEncoder.matches("another-password", reloaded.getPassword())).isTrue();
+    }
+
+    @Test
+    public void evictionDuringALoadDoesNotLeaveTheStaleHashCached() throws Exception {
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        Answer<?> repository = mockingDetails(userRepository).getMockCreationSettings().getDefaultAnswer();
+        doAnswer(invocation -> {
+            Object stale = repository.answer(invocation);
+            loaded.countDown();
+            proceed.await(5, TimeUnit.SECONDS);
+            return stale;
+        }).doAnswer(repository).when(userRepository).findByUsername(user.getUsername());
+
+        Thread loader = new Thread(() -> userDetailsService.loadUserByUsername(user.getUsername()));
+        loader.start();
+        assertThat(loaded.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 로더가 옛 해시를 읽은 뒤 비밀번호가 바뀌고 커밋 후 무효화가 도착
+        user.setPassword(passwordEncoder.encode("another-password"));
+        userRepository.save(user);
+        Thread evictor = new Thread(() ->
+                userDetailsService.onUserAccountChanged(new UserAccountChangedEvent(user.getUsername())));
+        evictor.start();
+        evictor.join(500);
+        proceed.countDown();
+        loader.join(5000);
+        evictor.join(5000);
+
+        UserDetails reloaded = userDetailsService.loadUserByUsername(user.getUsername());
+        assertThat(passwordEncoder.matches("another-password", reloaded.getPassword())).isTrue();
+    }
+
+    @Test
+    public void accountQueryDoesNotHoldTheCacheEntryLock() throws Exception {
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        Answer<?> repository = mockingDetails(userRepository).getMockCreationSettings().getDefaultAnswer();
+        doAnswer(invocation -> {
+            loaded.countDown();
+            proceed.await(5, TimeUnit.SECONDS);
+            return repository.answer(invocation);
+        }).doAnswer(repository).when(userRepository).findByUsername(user.getUsername());
+
+        Thread loader = new Thread(() -> userDetailsService.loadUserByUsername(user.getUsername()));
+        loader.start();
+        assertThat(loaded.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 조회가 캐시의 compute 안에서 돌면 같은 키의 무효화가 조회가 끝날 때까지 막힘 (가상 스레드는 캐리어 고정)
+        Thread evictor = new Thread(() ->
+                userDetailsService.onUserAccountChanged(new UserAccountChangedEvent(user.getUsername())));
+        evictor.start();
+        evictor.join(2000);
+        boolean evictorBlocked = evictor.isAlive();
+        proceed.countDown();
+        loader.join(5000);
+        evictor.join(5000);
+
+        assertThat(evictorBlocked).isFalse();
+    }
+
+    @Test
+    public void weakerHashIsUpgradedOnSuccessfulLogin() {
+        user.setPassword(new BCryptPasswordEncoder(4).encode(PASSWORD));
+        userRepository.save(user);
+        userDetailsService.loadUserByUsername(user.getUsername());
+
+        authService.login(LoginRequest.builder().username(user.getUsername()).password(PASSWORD).build());
+
+        User upgraded = userRepository.findByUsername(user.getUsername()).orElseThrow();
+        assertThat(upgraded.getPassword()).startsWith("$2a$10$");
+        assertThat(upgraded.getTokenVersion()).isEqualTo(user.getTokenVersion());
+        assertThat(userDetailsService.loadUserByUsername(user.getUsername()).getPassword())
+                .isEqualTo(upgraded.getPassword());
+    }
+}
@@ -0,0 +1,165 @@
+package com.lab.management.service;
+
+import com.lab.management.dto.BoardCommentDTO;
+import com.lab.management.dto.BoardDTO;
+import com.lab.management.dto.CreateCommentRequest;
+import com.lab.management.dto.response.CursorPage;
+import com.lab.management.entity.Board;
+import com.lab.management.entity.Grade;
+import com.lab.management.entity.Researcher;
+import com.lab.management.entity.ResearcherStatus;
+import com.lab.management.entity.User;
+import com.lab.management.exception.InvalidCursorException;
+import com.lab.management.repository.BoardRepository;
+import com.lab.management.repository.ResearcherRepository;
+import com.lab.management.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("dev")
+public class BoardServiceTest {
+
+    private static final int BOARD_COUNT = 12;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ResearcherRepository researcherRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    private String username;
+
+    private Long boardId;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String suffix = String.valueOf(System.nanoTime());
+        Researcher author = researcherRepository.save(Researcher.builder()
+                .name("Comment Tester")
+                .studentId("CMT-" + suffix)
+                .grade(Grade.GRADUATE)
+                .email("cmt" + suffix + "@lab.test")
+                .status(ResearcherStatus.ACTIVE)
+                .joinDate(LocalDate.now())
+                .build());
+        username = "cmt-user-" + suffix;
+        userRepository.save(User.builder()
+                .username(username)
+                .password("{noop}secret")
+                .researcher(author)
+                .build());
+
+        for (int i = 0; i < BOARD_COUNT; i++) {
+            boardId = boardRepository.save(Board.builder()
+                    .title("Board " + suffix + " " + i)
+                    .content("content")
+                    .author(author)
+                    .build()).getId();
+        }
+    }
+
+    @Test
+    public void commentCountFollowsCommentWrites() {
+        BoardCommentDTO first = boardService.createComment(boardId, new CreateCommentRequest("first"), username);
+        boardService.createComment(boardId, new CreateCommentRequest("second"), username);
+        BoardCommentDTO third = boardService.createComment(boardId, new CreateCommentRequest("third"), username);
+        assertThat(commentCount()).isEqualTo(3);
+
+        boardService.deleteComment(first.getId(), username);
+        boardService.deleteCommentByAdmin(third.getId());
+        assertThat(commentCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void boardPagesDoNotLoadComments() {
+        for (int i = 0; i < 5; i++) {
+            boardService.createComment(boardId, new CreateCommentRequest("comment " + i), username);
+        }
+
+        statistics.clear();
+        Page<BoardDTO> page = boardService.getAllBoards(0, PAGE_SIZE);
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        // page query with authors joined + total count
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+        assertThat(page.getContent())
+                .filteredOn(board -> board.getId().equals(boardId))
+                .extracting(BoardDTO::getCommentCount)
+                .containsExactly(5);
+    }
+
+    @Test
+    public void backfillRepairsDriftedCounts() {
+        boardService.createComment(boardId, new CreateCommentRequest("comment"), username);
+        transactionTemplate.executeWithoutResult(status -> boardRepository.addCommentCount(boardId, 41));
+
+        Integer repaired = transactionTemplate.execute(status -> boardRepository.backfillCommentCounts());
+        assertThat(repaired).isEqualTo(1);
+        assertThat(commentCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void cursorPagesWalkAllBoardsNewestFirstWithoutCounting() {
+        List<Long> expectedOrder = boardRepository.findAll(Sort.by(Sort.Direction.DESC, "createdAt", "id")).stream()
+                .map(Board::getId)
+                .toList();
+
+        List<Long> cursorOrder = new ArrayList<>();
+        String cursor = null;
+        do {
+            statistics.clear();
+            CursorPage<BoardDTO> page = boardService.getBoardsByCursor(cursor, 5);
+            // seek query only, no COUNT
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+            page.getContent().forEach(board -> cursorOrder.add(board.getId()));
+            cursor = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+        } while (cursor != null);
+
+        assertThat(cursorOrder).containsExactlyElementsOf(expectedOrder);
+    }
+
+    @Test
+    public void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> boardService.getBoardsByCursor("not-a-cursor", 5))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private int commentCount() {
+        return boardRepository.findById(boardId).orElseThrow().getCommentCount();
+    }
+}
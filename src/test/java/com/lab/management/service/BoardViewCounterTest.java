@@ -0,0 +1,113 @@
+package com.lab.management.service;
+
+import com.lab.management.entity.Board;
+import com.lab.management.entity.Grade;
+import com.lab.management.entity.Researcher;
+import com.lab.management.entity.ResearcherStatus;
+import com.lab.management.repository.BoardRepository;
+import com.lab.management.repository.ResearcherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Scheduled flushes are pushed out so the test controls when the buffer is drained
+@SpringBootTest(properties = "board.view-count.flush-interval-ms=3600000")
+@ActiveProfiles("dev")
+public class BoardViewCounterTest {
+
+    private static final int THREADS = 8;
+    private static final int VIEWS_PER_THREAD = 250;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardViewCounter boardViewCounter;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ResearcherRepository researcherRepository;
+
+    private Long boardId;
+
+    @BeforeEach
+    public void setUp() {
+        Researcher author = researcherRepository.save(Researcher.builder()
+                .name("Board Tester")
+                .studentId("BOARD-" + System.nanoTime())
+                .grade(Grade.GRADUATE)
+                .email("board" + System.nanoTime() + "@lab.test")
+                .status(ResearcherStatus.ACTIVE)
+                .joinDate(LocalDate.now())
+                .build());
+
+        boardId = boardRepository.save(Board.builder()
+                .title("Popular post")
+                .content("content")
+                .author(author)
+                .build()).getId();
+    }
+
+    @Test
+    public void concurrentViewsAreNotLost() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> viewers = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                viewers.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < VIEWS_PER_THREAD; j++) {
+                        boardService.getBoardById(boardId);
+                    }
+                    return null;
+                }));
+            }
+            // Flush while views are still coming in
+            Future<?> flusher = executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 20; j++) {
+                    boardViewCounter.flush();
+                    Thread.sleep(5);
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> viewer : viewers) {
+                viewer.get();
+            }
+            flusher.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        boardViewCounter.flush();
+
+        assertThat(boardViewCounter.pendingCount(boardId)).isZero();
+        assertThat(boardRepository.findById(boardId).orElseThrow().getViewCount())
+                .isEqualTo(THREADS * VIEWS_PER_THREAD);
+    }
+
+    @Test
+    public void detailViewIncludesBufferedViews() {
+        boardService.getBoardById(boardId);
+
+        assertThat(boardService.getBoardById(boardId).getViewCount()).isEqualTo(2);
+        assertThat(boardRepository.findById(boardId).orElseThrow().getViewCount()).isZero();
+    }
+}
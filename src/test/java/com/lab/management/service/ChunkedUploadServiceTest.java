@@ -0,0 +1,215 @@
+package com.lab.management.service;
+
+import com.lab.management.dto.request.UploadSessionRequest;
+import com.lab.management.dto.response.UploadSessionResponse;
+import com.lab.management.exception.InvalidUploadException;
+import com.lab.management.exception.ResourceNotFoundException;
+import com.lab.management.exception.UploadOffsetConflictException;
+import com.lab.management.repository.StoredBlobRepository;
+import com.lab.management.repository.UploadSessionRepository;
+import com.lab.management.entity.UploadSessionStatus;
+import com.lab.management.storage.StorageEngine;
+import com.lab.management.storage.UploadLayout;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+public class ChunkedUploadServiceTest {
+
+    @TempDir
+    static Path uploadDir;
+
+    @DynamicPropertySource
+    static void uploadDirProperties(DynamicPropertyRegistry registry) {
+        registry.add("file.upload-dir", uploadDir::toString);
+    }
+
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+
+    @Autowired
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Autowired
+    private StoredBlobRepository storedBlobRepository;
+
+    @SpyBean
+    private StorageEngine storageEngine;
+
+    @Test
+    public void chunksAreAppendedAndPublishedOnCompletion() throws Exception {
+        byte[] first = "hello, ".getBytes(StandardCharsets.UTF_8);
+        byte[] second = "chunked world".getBytes(StandardCharsets.UTF_8);
+        UploadSessionResponse session = start("greeting.txt", first.length + second.length);
+
+        chunkedUploadService.appendChunk(session.getUploadId(), 0, sha256(first), new ByteArrayInputStream(first));
+        UploadSessionResponse progress = chunkedUploadService.appendChunk(session.getUploadId(), first.length,
+                sha256(second), new ByteArrayInputStream(second));
+        assertThat(progress.getOffset()).isEqualTo(first.length + second.length);
+
+        UploadSessionResponse completed = chunkedUploadService.complete(session.getUploadId());
+
+        String storedName = completed.getFileUrl().substring("/api/files/".length());
+        assertThat(storedName).endsWith(".txt");
+        assertThat(Files.readString(UploadLayout.resolve(uploadDir, storedName))).isEqualTo("hello, chunked world");
+        assertThat(uploadSessionRepository.existsById(session.getUploadId())).isFalse();
+    }
+
+    @Test
+    public void droppedOrCorruptChunksLeaveTheOffsetForResume() throws Exception {
+        byte[] data = "resumable".getBytes(StandardCharsets.UTF_8);
+        UploadSessionResponse session = start("resume.bin", data.length);
+        String uploadId = session.getUploadId();
+
+        assertThatThrownBy(() -> chunkedUploadService.appendChunk(uploadId, 0, sha256(data), droppingAfter(data, 4)))
+                .isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> chunkedUploadService.appendChunk(uploadId, 0, sha256("other".getBytes()),
+                new ByteArrayInputStream(data)))
+                .isInstanceOf(InvalidUploadException.class);
+        assertThat(chunkedUploadService.getSession(uploadId).getOffset()).isZero();
+
+        assertThatThrownBy(() -> chunkedUploadService.appendChunk(uploadId, 3, sha256(data), new ByteArrayInputStream(data)))
+                .isInstanceOfSatisfying(UploadOffsetConflictException.class,
+                        e -> assertThat(e.getExpectedOffset()).isZero());
+        assertThatThrownBy(() -> chunkedUploadService.complete(uploadId))
+                .isInstanceOf(InvalidUploadException.class);
+
+        chunkedUploadService.appendChunk(uploadId, 0, sha256(data), new ByteArrayInputStream(data));
+        String storedName = chunkedUploadService.complete(uploadId).getFileUrl().substring("/api/files/".length());
+        assertThat(Files.readAllBytes(UploadLayout.resolve(uploadDir, storedName))).isEqualTo(data);
+    }
+
+    @Test
+    public void concurrentAndRetriedCompletionsPublishOnce() throws Exception {
+        byte[] data = new byte[2 * 1024 * 1024];
+        new Random(18).nextBytes(data);
+        UploadSessionResponse session = start("dataset.bin", data.length);
+        String uploadId = session.getUploadId();
+        chunkedUploadService.appendChunk(uploadId, 0, sha256(data), new ByteArrayInputStream(data));
+
+        int attempts = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        List<Future<UploadSessionResponse>> results = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return chunkedUploadService.complete(uploadId);
+            }));
+        }
+        start.countDown();
+
+        List<String> fileUrls = new ArrayList<>();
+        for (Future<UploadSessionResponse> result : results) {
+            try {
+                fileUrls.add(result.get(30, TimeUnit.SECONDS).getFileUrl());
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOfAny(ResourceNotFoundException.class, UploadOffsetConflictException.class);
+            }
+        }
+        executor.shutdown();
+
+        assertThat(fileUrls).hasSize(1);
+        String storedName = fileUrls.get(0).substring("/api/files/".length());
+        assertThat(storedBlobRepository.findById(storedName).orElseThrow().getRefCount()).isEqualTo(1L);
+        assertThat(Files.readAllBytes(UploadLayout.resolve(uploadDir, storedName))).isEqualTo(data);
+        assertThatThrownBy(() -> chunkedUploadService.complete(uploadId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    public void failedPublishKeepsTheSessionSoCompletionCanBeRetried() throws Exception {
+        byte[] data = "published on the second attempt".getBytes(StandardCharsets.UTF_8);
+        UploadSessionResponse session = start("retry.txt", data.length);
+        String uploadId = session.getUploadId();
+        chunkedUploadService.appendChunk(uploadId, 0, sha256(data), new ByteArrayInputStream(data));
+        Path part = uploadDir.resolve(".incoming").resolve(uploadId + ".part");
+        doThrow(new IOException("transient storage error")).doCallRealMethod()
+                .when(storageEngine).publish(any(), anyString());
+
+        assertThatThrownBy(() -> chunkedUploadService.complete(uploadId)).isInstanceOf(RuntimeException.class);
+
+        assertThat(part).exists();
+        assertThat(uploadSessionRepository.findById(uploadId).orElseThrow().getStatus())
+                .isEqualTo(UploadSessionStatus.UPLOADING);
+
+        String storedName = chunkedUploadService.complete(uploadId).getFileUrl().substring("/api/files/".length());
+        assertThat(Files.readAllBytes(UploadLayout.resolve(uploadDir, storedName))).isEqualTo(data);
+        assertThat(uploadSessionRepository.existsById(uploadId)).isFalse();
+        assertThat(part).doesNotExist();
+    }
+
+    @Test
+    public void abandonedSessionsArePurged() throws Exception {
+        UploadSessionResponse session = start("abandoned.bin", 10);
+        Path part = uploadDir.resolve(".incoming").resolve(session.getUploadId() + ".part");
+        assertThat(part).exists();
+
+        Duration expireAfter = (Duration) ReflectionTestUtils.getField(chunkedUploadService, "expireAfter");
+        ReflectionTestUtils.setField(chunkedUploadService, "expireAfter", Duration.ofSeconds(-1));
+        try {
+            chunkedUploadService.purgeExpiredSessions();
+        } finally {
+            ReflectionTestUtils.setField(chunkedUploadService, "expireAfter", expireAfter);
+        }
+
+        assertThat(uploadSessionRepository.existsById(session.getUploadId())).isFalse();
+        assertThat(part).doesNotExist();
+    }
+
+    private UploadSessionResponse start(String filename, long size) {
+        return chunkedUploadService.startSession(UploadSessionRequest.builder().filename(filename).size(size).build());
+    }
+
+    private static String sha256(byte[] data) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+    }
+
+    // 일부 바이트를 보낸 뒤 연결이 끊기는 요청 본문
+    private static InputStream droppingAfter(byte[] data, int limit) {
+        return new FilterInputStream(new ByteArrayInputStream(data, 0, limit)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = super.read(b, off, len);
+                if (read == -1) {
+                    throw new IOException("Connection reset");
+                }
+                return read;
+            }
+        };
+    }
+}
@@ -0,0 +1,217 @@
+package com.lab.management.service;
+
+import com.lab.management.dto.request.ProjectRequest;
+import com.lab.management.dto.request.TaskRequest;
+import com.lab.management.dto.response.DashboardResponse;
+import com.lab.management.dto.response.ProjectResponse;
+import com.lab.management.dto.response.TaskResponse;
+import com.lab.management.entity.Grade;
+import com.lab.management.entity.Priority;
+import com.lab.management.entity.Project;
+import com.lab.management.entity.ProjectStatus;
+import com.lab.management.entity.Researcher;
+import com.lab.management.entity.ResearcherStatus;
+import com.lab.management.entity.Task;
+import com.lab.management.entity.TaskStatus;
+import com.lab.management.repository.ProjectRepository;
+import com.lab.management.repository.ResearcherRepository;
+import com.lab.management.repository.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("dev")
+public class DashboardServiceTest {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private ResearcherRepository researcherRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private DashboardCounterStore counterStore;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+
+        researcherRepository.save(Researcher.builder()
+                .name("Dashboard Tester")
+                .studentId("DASH-" + System.nanoTime())
+                .grade(Grade.GRADUATE)
+                .email("dash" + System.nanoTime() + "@lab.test")
+                .status(ResearcherStatus.GRADUATED)
+                .joinDate(LocalDate.now())
+                .build());
+
+        Project project = projectRepository.save(Project.builder()
+                .name("Dashboard Project")
+                .status(ProjectStatus.IN_PROGRESS)
+                .startDate(LocalDate.now())
+                .build());
+        projectRepository.save(Project.builder()
+                .name("Finished Project")
+                .status(ProjectStatus.COMPLETED)
+                .startDate(LocalDate.now())
+                .build());
+
+        taskRepository.save(Task.builder().name("Todo").status(TaskStatus.TODO).project(project).build());
+        taskRepository.save(Task.builder().name("Done 1").status(TaskStatus.DONE).project(project).build());
+        taskRepository.save(Task.builder().name("Done 2").status(TaskStatus.DONE).project(project).build());
+
+        // Rows above bypass the services, so bring the counters in line with the tables
+        counterStore.reconcile();
+    }
+
+    @Test
+    public void dashboardStatisticsMatchRepositoryCounts() {
+        DashboardResponse stats = dashboardService.getDashboardStatistics();
+
+        assertThat(stats.getTotalResearchers()).isEqualTo(researcherRepository.count());
+        assertThat(stats.getActiveResearchers()).isEqualTo(researcherRepository.countByStatus(ResearcherStatus.ACTIVE));
+        assertThat(stats.getTotalProjects()).isEqualTo(2L);
+        assertThat(stats.getActiveProjects()).isEqualTo(1L);
+        assertThat(stats.getTotalTasks()).isEqualTo(3L);
+        assertThat(stats.getCompletedTasks()).isEqualTo(2L);
+        assertThat(stats.getProjectsByStatus()).containsOnlyKeys(
+                "PLANNING", "IN_PROGRESS", "COMPLETED", "ON_HOLD", "CANCELLED");
+        assertThat(stats.getProjectsByStatus().get("ON_HOLD")).isZero();
+        assertThat(stats.getTasksByStatus().get("DONE")).isEqualTo(2L);
+        assertThat(stats.getTasksByStatus().get("BLOCKED")).isZero();
+    }
+
+    @Test
+    public void dashboardStatisticsDoNotQueryDatabase() {
+        statistics.clear();
+
+        dashboardService.getDashboardStatistics();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    public void reconciliationUsesSingleStatement() {
+        statistics.clear();
+
+        counterStore.reconcile();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void serviceWritesUpdateCountersWithoutReconciliation() {
+        ProjectResponse project = projectService.createProject(ProjectRequest.builder()
+                .name("Counted Project")
+                .status(ProjectStatus.ON_HOLD)
+                .priority(Priority.MEDIUM)
+                .startDate(LocalDate.now())
+                .build());
+        TaskResponse task = taskService.createTask(TaskRequest.builder()
+                .name("Counted Task")
+                .status(TaskStatus.TODO)
+                .priority(Priority.MEDIUM)
+                .projectId(project.getId())
+                .build());
+
+        DashboardResponse afterCreate = dashboardService.getDashboardStatistics();
+        assertThat(afterCreate.getTotalProjects()).isEqualTo(3L);
+        assertThat(afterCreate.getProjectsByStatus().get("ON_HOLD")).isEqualTo(1L);
+        assertThat(afterCreate.getTasksByStatus().get("TODO")).isEqualTo(2L);
+
+        taskService.updateTask(task.getId(), TaskRequest.builder()
+                .name("Counted Task")
+                .status(TaskStatus.DONE)
+                .priority(Priority.MEDIUM)
+                .projectId(project.getId())
+                .build());
+        assertThat(dashboardService.getDashboardStatistics().getCompletedTasks()).isEqualTo(3L);
+
+        projectService.deleteProject(project.getId());
+
+        DashboardResponse afterDelete = dashboardService.getDashboardStatistics();
+        assertThat(afterDelete.getTotalProjects()).isEqualTo(2L);
+        assertThat(afterDelete.getTotalTasks()).isEqualTo(3L);
+        assertThat(afterDelete.getCompletedTasks()).isEqualTo(2L);
+    }
+
+    @Test
+    public void reconciliationWaitsForCommittedChangesToBeApplied() throws Exception {
+        CountDownLatch committed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread writer = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            projectService.createProject(ProjectRequest.builder()
+                    .name("In-flight Project")
+                    .status(ProjectStatus.ON_HOLD)
+                    .priority(Priority.MEDIUM)
+                    .startDate(LocalDate.now())
+                    .build());
+            // Pause after the commit, before the counter event is applied
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    committed.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+        }));
+        writer.start();
+        assertThat(committed.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread reconciler = new Thread(counterStore::reconcile);
+        reconciler.start();
+        reconciler.join(500);
+        // The snapshot would already contain the project; it must wait for the event
+        assertThat(reconciler.isAlive()).isTrue();
+
+        release.countDown();
+        writer.join(5000);
+        reconciler.join(5000);
+
+        DashboardResponse stats = dashboardService.getDashboardStatistics();
+        assertThat(stats.getTotalProjects()).isEqualTo(3L);
+        assertThat(stats.getProjectsByStatus().get("ON_HOLD")).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,106 @@
+package com.lab.management.service;
+
+import com.lab.management.repository.StoredBlobRepository;
+import com.lab.management.storage.UploadLayout;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mockingDetails;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+public class FileStorageServiceTest {
+
+    @TempDir
+    static Path uploadDir;
+
+    @DynamicPropertySource
+    static void uploadDirProperties(DynamicPropertyRegistry registry) {
+        registry.add("file.upload-dir", uploadDir::toString);
+    }
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @SpyBean
+    private StoredBlobRepository storedBlobRepository;
+
+    @Test
+    public void identicalContentIsStoredOnce() throws Exception {
+        String first = fileStorageService.storeFile(file("notice.pdf", "shared attachment"));
+        String second = fileStorageService.storeFile(file("seminar.pdf", "shared attachment"));
+        String other = fileStorageService.storeFile(file("board.pdf", "different attachment"));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(other).isNotEqualTo(first);
+        assertThat(first).startsWith(FileStorageService.FILE_URL_PREFIX).endsWith(".pdf");
+        assertThat(storedBlobRepository.findById(nameOf(first)).orElseThrow().getRefCount()).isEqualTo(2L);
+        assertThat(Files.readString(UploadLayout.resolve(uploadDir, nameOf(first)))).isEqualTo("shared attachment");
+    }
+
+    @Test
+    public void fileIsDeletedWithTheLastReference() throws Exception {
+        String first = fileStorageService.storeFile(file("a.txt", "referenced twice"));
+        String second = fileStorageService.storeFile(file("b.txt", "referenced twice"));
+        Path stored = UploadLayout.resolve(uploadDir, nameOf(first));
+
+        fileStorageService.deleteFile(first);
+        assertThat(stored).exists();
+        assertThat(storedBlobRepository.findById(nameOf(first)).orElseThrow().getRefCount()).isEqualTo(1L);
+
+        fileStorageService.deleteFile(second);
+        assertThat(stored).doesNotExist();
+        assertThat(storedBlobRepository.existsById(nameOf(first))).isFalse();
+
+        // 마지막 참조가 사라진 뒤 다시 올리면 새로 저장
+        String again = fileStorageService.storeFile(file("c.txt", "referenced twice"));
+        assertThat(again).isEqualTo(first);
+        assertThat(stored).exists();
+    }
+
+    @Test
+    public void concurrentlyCreatedBlobKeepsBothReferences() throws Exception {
+        String first = fileStorageService.storeFile(file("replica-a.pdf", "uploaded on two replicas"));
+        String name = nameOf(first);
+        // 다른 노드가 행을 만들기 직전에 증가를 시도한 것처럼 첫 증가만 0 반환
+        Answer<?> repository = mockingDetails(storedBlobRepository).getMockCreationSettings().getDefaultAnswer();
+        doReturn(0).doAnswer(repository).when(storedBlobRepository).incrementRefCount(name);
+
+        String second = fileStorageService.storeFile(file("replica-b.pdf", "uploaded on two replicas"));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(storedBlobRepository.findById(name).orElseThrow().getRefCount()).isEqualTo(2L);
+        assertThat(Files.readString(UploadLayout.resolve(uploadDir, name))).isEqualTo("uploaded on two replicas");
+    }
+
+    @Test
+    public void legacyFilesWithoutBlobAreDeletedDirectly() throws Exception {
+        Path legacy = Files.writeString(uploadDir.resolve("0b7f4c2e-1d3a-4f5b-9c8d-7e6f5a4b3c2d.png"), "legacy");
+
+        fileStorageService.deleteFile(FileStorageService.FILE_URL_PREFIX + legacy.getFileName());
+
+        assertThat(legacy).doesNotExist();
+    }
+
+    private static MockMultipartFile file(String name, String content) {
+        return new MockMultipartFile("file", name, "application/octet-stream", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String nameOf(String fileUrl) {
+        return fileUrl.substring(FileStorageService.FILE_URL_PREFIX.length());
+    }
+}
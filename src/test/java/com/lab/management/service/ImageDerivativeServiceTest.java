@@ -0,0 +1,167 @@
+package com.lab.management.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImageDerivativeServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private ImageDerivativeService service(long maxPixels) {
+        ImageDerivativeService service = new ImageDerivativeService(List.of(640, 256), 1, 4, maxPixels);
+        ReflectionTestUtils.setField(service, "uploadDir", uploadDir.toString());
+        return service;
+    }
+
+    @Test
+    public void derivativesAreGeneratedForEveryWidthWithoutUpscaling() throws Exception {
+        ImageDerivativeService service = service(10_000_000);
+        writeImage("photo.jpg", 2000, 1000, BufferedImage.TYPE_INT_RGB, "jpeg");
+        writeImage("icon.png", 300, 300, BufferedImage.TYPE_INT_ARGB, "png");
+
+        service.generateDerivatives("photo.jpg");
+        service.generateDerivatives("icon.png");
+
+        BufferedImage small = ImageIO.read(service.derivativePath("photo.jpg", 256).toFile());
+        BufferedImage medium = ImageIO.read(service.derivativePath("photo.jpg", 640).toFile());
+        assertThat(small.getWidth()).isEqualTo(256);
+        assertThat(small.getHeight()).isEqualTo(128);
+        assertThat(medium.getWidth()).isEqualTo(640);
+
+        Path iconDerivative = service.derivativePath("icon.png", 640);
+        assertThat(iconDerivative.getFileName().toString()).endsWith(".png");
+        BufferedImage icon = ImageIO.read(iconDerivative.toFile());
+        assertThat(icon.getWidth()).isEqualTo(300);
+        assertThat(icon.getColorModel().hasAlpha()).isTrue();
+    }
+
+    @Test
+    public void widthIsTheSmallestDerivativeCoveringTheRequest() {
+        ImageDerivativeService service = service(10_000_000);
+
+        assertThat(service.widthFor(100)).isEqualTo(256);
+        assertThat(service.widthFor(256)).isEqualTo(256);
+        assertThat(service.widthFor(300)).isEqualTo(640);
+        assertThat(service.widthFor(2000)).isNull();
+        assertThat(service.supports("photo.JPG")).isTrue();
+        assertThat(service.supports("paper.pdf")).isFalse();
+    }
+
+    @Test
+    public void oversizedOrUndecodableSourcesAreSkipped() throws Exception {
+        ImageDerivativeService service = service(1_000);
+        writeImage("large.png", 100, 100, BufferedImage.TYPE_INT_RGB, "png");
+        Files.writeString(uploadDir.resolve("broken.jpg"), "not an image");
+
+        service.generateDerivatives("large.png");
+        service.generateDerivatives("broken.jpg");
+
+        assertThat(service.derivativePath("large.png", 256)).doesNotExist();
+        assertThat(service.derivativePath("broken.jpg", 256)).doesNotExist();
+    }
+
+    @Test
+    public void sourcesTheReaderRejectsAreNotDecodedAgain() throws Exception {
+        ImageDerivativeService service = service(10_000_000);
+        writeImage("photo.jpg", 800, 600, BufferedImage.TYPE_INT_RGB, "jpeg");
+        Path truncated = uploadDir.resolve("truncated.jpg");
+        Files.write(truncated, Arrays.copyOf(Files.readAllBytes(uploadDir.resolve("photo.jpg")), 40));
+
+        service.generateDerivatives("truncated.jpg");
+
+        assertThat(service.derivativePath("truncated.jpg", 256)).doesNotExist();
+        assertThat((Set<Object>) ReflectionTestUtils.getField(service, "failed")).containsExactly("truncated.jpg");
+    }
+
+    @Test
+    public void exifOrientationIsAppliedBeforeScaling() throws Exception {
+        ImageDerivativeService service = service(10_000_000);
+        // 휴대폰 사진처럼 가로로 저장되고 Orientation=6 (시계 방향 90도 회전해서 표시)
+        writeImage("portrait.jpg", 600, 300, BufferedImage.TYPE_INT_RGB, "jpeg");
+        addExifOrientation(uploadDir.resolve("portrait.jpg"), 6);
+
+        service.generateDerivatives("portrait.jpg");
+
+        BufferedImage small = ImageIO.read(service.derivativePath("portrait.jpg", 256).toFile());
+        assertThat(small.getWidth()).isEqualTo(256);
+        assertThat(small.getHeight()).isEqualTo(512);
+        // 원본의 왼쪽(빨강 0)이 위로, 오른쪽(빨강 255)이 아래로 가야 함
+        assertThat(small.getRGB(128, 5) >> 16 & 0xFF).isLessThan(40);
+        assertThat(small.getRGB(128, 506) >> 16 & 0xFF).isGreaterThan(215);
+        BufferedImage medium = ImageIO.read(service.derivativePath("portrait.jpg", 640).toFile());
+        assertThat(medium.getWidth()).isEqualTo(300);
+        assertThat(medium.getHeight()).isEqualTo(600);
+    }
+
+    @Test
+    public void failedWritesAreRetriedOnALaterRequest() throws Exception {
+        ImageDerivativeService service = service(10_000_000);
+        writeImage("photo.jpg", 800, 600, BufferedImage.TYPE_INT_RGB, "jpeg");
+        // 파생 이미지 디렉토리 자리에 파일이 있어 쓰기가 실패하는 상황
+        Path derivativeRoot = uploadDir.resolve(".derivatives");
+        Files.writeString(derivativeRoot, "blocks the derivative directory");
+
+        service.generateDerivatives("photo.jpg");
+        Files.delete(derivativeRoot);
+
+        assertThat(service.findOrSchedule("photo.jpg", 256)).isNull();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!Files.exists(service.derivativePath("photo.jpg", 256)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(service.derivativePath("photo.jpg", 256)).exists();
+        assertThat(service.derivativePath("photo.jpg", 640)).exists();
+    }
+
+    @Test
+    public void derivativesAreDeletedWithTheOriginal() throws Exception {
+        ImageDerivativeService service = service(10_000_000);
+        writeImage("photo.jpg", 800, 600, BufferedImage.TYPE_INT_RGB, "jpeg");
+        service.generateDerivatives("photo.jpg");
+        assertThat(service.derivativePath("photo.jpg", 256)).exists();
+
+        service.deleteDerivatives("photo.jpg");
+
+        assertThat(service.derivativePath("photo.jpg", 256)).doesNotExist();
+        assertThat(service.derivativePath("photo.jpg", 640)).doesNotExist();
+    }
+
+    private void writeImage(String name, int width, int height, int type, String format) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, type);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, 0xFF000000 | (x * 255 / width) << 16 | (y * 255 / height) << 8);
+            }
+        }
+        ImageIO.write(image, format, uploadDir.resolve(name).toFile());
+    }
+
+    // JFIF APP0 세그먼트 뒤에 IFD0 Orientation 항목 하나만 있는 Exif APP1 세그먼트 삽입
+    private static void addExifOrientation(Path jpeg, int orientation) throws Exception {
+        byte[] original = Files.readAllBytes(jpeg);
+        ByteBuffer exif = ByteBuffer.allocate(2 + 2 + 6 + 8 + 2 + 12 + 4);
+        exif.putShort((short) 0xFFE1).putShort((short) (exif.capacity() - 2))
+                .put(new byte[]{'E', 'x', 'i', 'f', 0, 0})
+                .put(new byte[]{'M', 'M', 0, 42}).putInt(8)
+                .putShort((short) 1)
+                .putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0)
+                .putInt(0);
+        int app0End = 4 + ((original[4] & 0xFF) << 8 | original[5] & 0xFF);
+        ByteBuffer spliced = ByteBuffer.allocate(original.length + exif.capacity());
+        spliced.put(original, 0, app0End).put(exif.array()).put(original, app0End, original.length - app0End);
+        Files.write(jpeg, spliced.array());
+    }
+}
@@ -0,0 +1,186 @@
+package com.lab.management.service;
+
+import com.lab.management.dto.response.ProjectResponse;
+import com.lab.management.dto.response.ResearcherResponse;
+import com.lab.management.entity.Grade;
+import com.lab.management.entity.Priority;
+import com.lab.management.entity.Project;
+import com.lab.management.entity.ProjectStatus;
+import com.lab.management.entity.Researcher;
+import com.lab.management.entity.ResearcherStatus;
+import com.lab.management.entity.Task;
+import com.lab.management.entity.TaskStatus;
+import com.lab.management.entity.User;
+import com.lab.management.repository.ProjectRepository;
+import com.lab.management.repository.ResearcherRepository;
+import com.lab.management.repository.TaskRepository;
+import com.lab.management.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+public class ProjectServiceTest {
+
+    private static final int PROJECT_COUNT = 6;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ResearcherRepository researcherRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+
+    // 프로젝트 ID -> 태스크 수
+    private final Map<Long, Integer> taskCounts = new HashMap<>();
+
+    private final List<Long> activeProjectIds = new ArrayList<>();
+
+    private Researcher member;
+
+    private Researcher memberWithAccount;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+
+        // The account is the researcher's inverse one-to-one, fetched with the list query
+        member = saveResearcher("Project Member");
+        memberWithAccount = saveResearcher("Project Member With Account");
+        userRepository.save(User.builder()
+                .username("pj-user-" + System.nanoTime())
+                .password("{noop}secret")
+                .researcher(memberWithAccount)
+                .build());
+
+        for (int i = 0; i < PROJECT_COUNT; i++) {
+            // Even projects are active (IN_PROGRESS), odd ones completed
+            Project project = projectRepository.save(Project.builder()
+                    .name("Project " + i)
+                    .status(i % 2 == 0 ? ProjectStatus.IN_PROGRESS : ProjectStatus.COMPLETED)
+                    .priority(Priority.MEDIUM)
+                    .startDate(LocalDate.now().minusDays(i))
+                    .categories(new ArrayList<>(List.of("Medical_AI", "Project " + i)))
+                    .researchers(new ArrayList<>(List.of(member, memberWithAccount)))
+                    .build());
+            for (int t = 0; t < i; t++) {
+                taskRepository.save(Task.builder().name("Task " + t).status(TaskStatus.TODO).project(project).build());
+            }
+            taskCounts.put(project.getId(), i);
+            if (i % 2 == 0) {
+                activeProjectIds.add(project.getId());
+            }
+        }
+    }
+
+    @Test
+    public void allProjectsAreLoadedWithConstantStatementCount() {
+        statistics.clear();
+
+        List<ProjectResponse> projects = projectService.getAllProjects();
+
+        assertThat(projects).hasSize(PROJECT_COUNT);
+        // projects joined with researchers and users + batched categories + batched research areas + task counts
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4L);
+        assertMappedFields(projects);
+    }
+
+    @Test
+    public void activeProjectsAreLoadedWithConstantStatementCountAndCached() {
+        statistics.clear();
+
+        List<ProjectResponse> projects = projectService.getActiveProjects();
+
+        assertThat(projects).extracting(ProjectResponse::getId).containsExactlyInAnyOrderElementsOf(activeProjectIds);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4L);
+        assertMappedFields(projects);
+
+        statistics.clear();
+        projectService.getActiveProjects();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @WithMockUser(roles = "RESEARCHER")
+    public void userProjectListCostsTheValidatorAndTheListQueries() throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(get("/user/projects"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(PROJECT_COUNT));
+
+        // ETag validator + the four list statements
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5L);
+    }
+
+    private void assertMappedFields(List<ProjectResponse> projects) {
+        for (ProjectResponse project : projects) {
+            assertThat(project.getTaskCount()).isEqualTo(taskCounts.get(project.getId()));
+            assertThat(project.getCategories()).containsExactly("Medical_AI", project.getName());
+            assertThat(project.getResearchers()).extracting(ResearcherResponse::getId)
+                    .containsExactlyInAnyOrder(member.getId(), memberWithAccount.getId());
+            for (ResearcherResponse researcher : project.getResearchers()) {
+                assertThat(researcher.getName()).startsWith("Project Member");
+                assertThat(researcher.getResearchAreas()).containsExactly("Medical_AI");
+            }
+        }
+    }
+
+    private Researcher saveResearcher(String name) {
+        String suffix = String.valueOf(System.nanoTime());
+        return researcherRepository.save(Researcher.builder()
+                .name(name)
+                .studentId("PJ-" + suffix)
+                .grade(Grade.GRADUATE)
+                .email("pj" + suffix + "@lab.test")
+                .status(ResearcherStatus.ACTIVE)
+                .joinDate(LocalDate.now())
+                .researchAreas(new ArrayList<>(List.of("Medical_AI")))
+                .build());
+    }
+}
@@ -0,0 +1,133 @@
+package com.lab.management.service;
+
+import com.lab.management.dto.response.ResearcherResponse;
+import com.lab.management.entity.Grade;
+import com.lab.management.entity.Researcher;
+import com.lab.management.entity.ResearcherStatus;
+import com.lab.management.entity.User;
+import com.lab.management.repository.ResearcherRepository;
+import com.lab.management.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("dev")
+public class ResearcherServiceTest {
+
+    private static final int RESEARCHER_COUNT = 8;
+
+    @Autowired
+    private ResearcherService researcherService;
+
+    @Autowired
+    private ResearcherRepository researcherRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+
+    private final List<Long> researcherIds = new ArrayList<>();
+
+    private final List<Long> researcherIdsWithAccount = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        for (int i = 0; i < RESEARCHER_COUNT; i++) {
+            String suffix = i + "-" + System.nanoTime();
+            Researcher researcher = researcherRepository.save(Researcher.builder()
+                    .name("Researcher " + i)
+                    .studentId("RS-" + suffix)
+                    .grade(Grade.GRADUATE)
+                    .email("rs" + suffix + "@lab.test")
+                    .status(ResearcherStatus.ACTIVE)
+                    .joinDate(LocalDate.now())
+                    .researchAreas(new ArrayList<>(List.of("Medical_AI", "LLM")))
+                    .build());
+            researcherIds.add(researcher.getId());
+
+            // Every other researcher gets a login account
+            if (i % 2 == 0) {
+                userRepository.save(User.builder()
+                        .username("rs-user-" + suffix)
+                        .password("{noop}secret")
+                        .researcher(researcher)
+                        .build());
+                researcherIdsWithAccount.add(researcher.getId());
+            }
+        }
+    }
+
+    @Test
+    public void allResearchersAreLoadedWithConstantStatementCount() {
+        statistics.clear();
+
+        List<ResearcherResponse> researchers = researcherService.getAllResearchers();
+
+        assertThat(researchers.size()).isGreaterThanOrEqualTo(RESEARCHER_COUNT);
+        // researchers joined with users + one batched research area load
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+        assertAccountInfo(researchers);
+    }
+
+    @Test
+    public void activeResearchersAreLoadedWithConstantStatementCount() {
+        statistics.clear();
+
+        List<ResearcherResponse> researchers = researcherService.getActiveResearchers();
+
+        assertThat(researchers.size()).isGreaterThanOrEqualTo(RESEARCHER_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+        assertAccountInfo(researchers);
+    }
+
+    @Test
+    public void activeResearchersAreServedFromCacheUntilEvicted() {
+        researcherService.getActiveResearchers();
+
+        statistics.clear();
+        List<ResearcherResponse> cached = researcherService.getActiveResearchers();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(cached).extracting(ResearcherResponse::getId).containsAll(researcherIds);
+
+        // Researcher without an account, so no user row references it
+        Long removedId = researcherIds.get(1);
+        researcherService.deleteResearcher(removedId);
+
+        List<ResearcherResponse> refreshed = researcherService.getActiveResearchers();
+        assertThat(refreshed).extracting(ResearcherResponse::getId).doesNotContain(removedId);
+    }
+
+    private void assertAccountInfo(List<ResearcherResponse> researchers) {
+        for (ResearcherResponse researcher : researchers) {
+            boolean expectAccount = researcherIdsWithAccount.contains(researcher.getId());
+            if (researcherIds.contains(researcher.getId())) {
+                assertThat(researcher.getHasAccount()).isEqualTo(expectAccount);
+                assertThat(researcher.getUsername() != null).isEqualTo(expectAccount);
+                assertThat(researcher.getResearchAreas()).containsExactly("Medical_AI", "LLM");
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.lab.management.service;
+
+import com.lab.management.dto.BoardDTO;
+import com.lab.management.dto.CreateBoardRequest;
+import com.lab.management.dto.CreateNoticeRequest;
+import com.lab.management.dto.response.SearchResultResponse;
+import com.lab.management.entity.Board;
+import com.lab.management.entity.Grade;
+import com.lab.management.entity.Researcher;
+import com.lab.management.entity.ResearcherStatus;
+import com.lab.management.entity.SearchDocumentType;
+import com.lab.management.entity.User;
+import com.lab.management.repository.BoardRepository;
+import com.lab.management.repository.ResearcherRepository;
+import com.lab.management.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+public class SearchIndexServiceTest {
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private NoticeService noticeService;
+
+    @Autowired
+    private ResearcherRepository researcherRepository;
+
+    @SpyBean
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String username;
+
+    private String marker;
+
+    private Researcher author;
+
+    @BeforeEach
+    public void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        author = researcherRepository.save(Researcher.builder()
+                .name("Search Tester")
+                .studentId("SRCH-" + suffix)
+                .grade(Grade.GRADUATE)
+                .email("srch" + suffix + "@lab.test")
+                .status(ResearcherStatus.ACTIVE)
+                .joinDate(LocalDate.now())
+                .build());
+        username = "srch-user-" + suffix;
+        userRepository.save(User.builder()
+                .username(username)
+                .password("{noop}secret")
+                .researcher(author)
+                .build());
+        // Unique letters-only token per test (the tokenizer splits digits off) so documents
+        // from other tests never match
+        StringBuilder token = new StringBuilder("zq");
+        suffix.chars().forEach(digit -> token.append((char) ('a' + digit - '0')));
+        marker = token.toString();
+    }
+
+    @Test
+    public void koreanContentIsSearchableAndTitleMatchesRankFirst() {
+        BoardDTO contentMatch = createBoard("세미나 후기 " + marker, "딥러닝 기반 의료영상 분석 결과를 공유합니다.");
+        BoardDTO titleMatch = createBoard("의료영상 분석 파이프라인 " + marker, "이번 주 진행 상황입니다.");
+
+        // Inflected/compound forms are normalised by the Korean analyzer
+        Page<SearchResultResponse> results = searchIndexService.search("의료영상을 " + marker, null, 0, 10);
+
+        assertThat(results.getContent())
+                .extracting(SearchResultResponse::getId)
+                .containsSubsequence(titleMatch.getId(), contentMatch.getId());
+        assertThat(results.getContent().get(0).getType()).isEqualTo(SearchDocumentType.BOARD);
+    }
+
+    @Test
+    public void typeFilterAndDeletesAreApplied() {
+        BoardDTO board = createBoard("연구실 공지 " + marker, "본문");
+        noticeService.createNotice(new CreateNoticeRequest("연구실 공지 " + marker, "본문", true, null, null, null), username);
+
+        assertThat(searchIndexService.search(marker, null, 0, 10).getTotalElements()).isEqualTo(2);
+        assertThat(searchIndexService.search(marker, SearchDocumentType.NOTICE, 0, 10).getContent())
+                .extracting(SearchResultResponse::getType)
+                .containsExactly(SearchDocumentType.NOTICE);
+
+        boardService.deleteBoard(board.getId(), username);
+
+        assertThat(searchIndexService.search(marker, SearchDocumentType.BOARD, 0, 10).getTotalElements()).isZero();
+    }
+
+    @Test
+    public void searchBoardsMatchesContentAndUpdatesAreReindexed() {
+        BoardDTO board = createBoard("주간 회의록", "before " + marker);
+
+        assertThat(boardService.searchBoards(marker, 0, 10).getContent())
+                .extracting(BoardDTO::getId)
+                .containsExactly(board.getId());
+
+        CreateBoardRequest update = new CreateBoardRequest();
+        update.setTitle("주간 회의록");
+        update.setContent("after " + marker);
+        update.setIsPublic(true);
+        boardService.updateBoard(board.getId(), update, username);
+
+        assertThat(boardService.searchBoards("before", 0, 10).getContent())
+                .extracting(BoardDTO::getId)
+                .doesNotContain(board.getId());
+        assertThat(boardService.searchBoards(marker, 0, 10).getContent())
+                .extracting(BoardDTO::getId)
+                .containsExactly(board.getId());
+    }
+
+    @Test
+    public void rowsWrittenWithoutEventsAreIndexedByAReindex() {
+        createBoard("색인된 글 " + marker, "본문");
+        Board direct = boardRepository.save(Board.builder()
+                .title("직접 저장된 글 " + marker)
+                .content("이벤트 없이 저장")
+                .author(author)
+                .build());
+        assertThat(searchIndexService.search(marker, SearchDocumentType.BOARD, 0, 10).getTotalElements()).isEqualTo(1);
+
+        int count = searchIndexService.reindexAll();
+
+        assertThat(count).isPositive();
+        assertThat(searchIndexService.search(marker, SearchDocumentType.BOARD, 0, 10).getContent())
+                .extracting(SearchResultResponse::getId)
+                .hasSize(2)
+                .contains(direct.getId());
+    }
+
+    @Test
+    public void rowsDeletedWithoutEventsAreRemovedByAReindex() {
+        BoardDTO kept = createBoard("남길 글 " + marker, "본문");
+        BoardDTO removed = createBoard("지울 글 " + marker, "본문");
+        boardRepository.deleteById(removed.getId());
+
+        searchIndexService.reindexAll();
+
+        assertThat(searchIndexService.search(marker, SearchDocumentType.BOARD, 0, 10).getContent())
+                .extracting(SearchResultResponse::getId)
+                .containsExactly(kept.getId());
+    }
+
+    @Test
+    public void changesCommittedDuringAReindexAreNotOverwrittenNorIsAHalfBuiltIndexVisible() {
+        BoardDTO deleted = createBoard("재색인 중 삭제 " + marker, "본문");
+        BoardDTO other = createBoard("다른 글 " + marker, "본문");
+        // 재색인이 게시판 배치를 읽은 직후 다른 요청이 글을 삭제하고, 그 사이 검색이 들어오는 상황
+        AtomicLong visibleDuringRebuild = new AtomicLong(-1);
+        Answer<?> repository = mockingDetails(boardRepository).getMockCreationSettings().getDefaultAnswer();
+        doAnswer(invocation -> {
+            Object batch = repository.answer(invocation);
+            if (visibleDuringRebuild.get() < 0) {
+                boardService.deleteBoard(deleted.getId(), username);
+                visibleDuringRebuild.set(searchIndexService.search(marker, SearchDocumentType.BOARD, 0, 10)
+                        .getContent().stream().filter(result -> result.getId().equals(other.getId())).count());
+            }
+            return batch;
+        }).when(boardRepository).findAll(any(Pageable.class));
+
+        searchIndexService.reindexAll();
+
+        assertThat(visibleDuringRebuild.get()).isEqualTo(1);
+        assertThat(searchIndexService.search(marker, SearchDocumentType.BOARD, 0, 10).getContent())
+                .extracting(SearchResultResponse::getId)
+                .containsExactly(other.getId());
+    }
+
+    @Test
+    public void pagesBeyondTheResultWindowReturnOnlyTheTotal() {
+        createBoard("깊은 페이지 " + marker, "본문");
+        createBoard("깊은 페이지 " + marker, "본문");
+
+        Page<SearchResultResponse> deep = searchIndexService.search(marker, null, Integer.MAX_VALUE / 10, 100);
+
+        assertThat(deep.getContent()).isEmpty();
+        assertThat(deep.getTotalElements()).isEqualTo(2);
+    }
+
+    private BoardDTO createBoard(String title, String content) {
+        CreateBoardRequest request = new CreateBoardRequest();
+        request.setTitle(title);
+        request.setContent(content);
+        request.setIsPublic(true);
+        return boardService.createBoard(request, username);
+    }
+}
@@ -0,0 +1,197 @@
+package com.lab.management.service;
+
+import com.lab.management.dto.response.ResearcherResponse;
+import com.lab.management.dto.response.TaskResponse;
+import com.lab.management.entity.Grade;
+import com.lab.management.entity.Priority;
+import com.lab.management.entity.Project;
+import com.lab.management.entity.ProjectStatus;
+import com.lab.management.entity.Researcher;
+import com.lab.management.entity.ResearcherStatus;
+import com.lab.management.entity.Task;
+import com.lab.management.entity.TaskStatus;
+import com.lab.management.repository.ProjectRepository;
+import com.lab.management.repository.ResearcherRepository;
+import com.lab.management.repository.TaskRepository;
+import com.lab.management.repository.TaskSummary;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("dev")
+public class TaskServiceTest {
+
+    private static final LocalDate DUE_DATE = LocalDate.of(2026, 12, 1);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ResearcherRepository researcherRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Project project;
+
+    private Researcher lead;
+
+    private Researcher member;
+
+    private Task pairedTask;
+
+    private Task soloTask;
+
+    private Task unassignedTask;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        lead = saveResearcher("Task Lead", Grade.SENIOR, List.of("Medical_AI", "LLM"));
+        member = saveResearcher("Task Member", Grade.GRADUATE, List.of("Segmentation"));
+        project = projectRepository.save(Project.builder()
+                .name("Task Projection Project")
+                .status(ProjectStatus.IN_PROGRESS)
+                .priority(Priority.HIGH)
+                .startDate(LocalDate.now())
+                .build());
+
+        pairedTask = saveTask("Paired task", TaskStatus.IN_PROGRESS, Priority.HIGH, List.of(lead, member));
+        soloTask = saveTask("Solo task", TaskStatus.TODO, Priority.LOW, List.of(member));
+        unassignedTask = saveTask("Unassigned task", TaskStatus.DONE, Priority.MEDIUM, List.of());
+    }
+
+    @Test
+    public void summaryProjectionMapsTaskAndProjectColumnsInOneStatement() {
+        statistics.clear();
+
+        List<TaskSummary> summaries = taskRepository.findSummariesByProjectId(project.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(summaries).hasSize(3);
+        TaskSummary paired = summaries.stream().filter(s -> s.getId().equals(pairedTask.getId())).findFirst().orElseThrow();
+        assertThat(paired.getName()).isEqualTo("Paired task");
+        assertThat(paired.getDescription()).isEqualTo("Paired task description");
+        assertThat(paired.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(paired.getPriority()).isEqualTo(Priority.HIGH);
+        assertThat(paired.getDueDate()).isEqualTo(DUE_DATE);
+        assertThat(paired.getEstimatedHours()).isEqualTo(8);
+        assertThat(paired.getProjectId()).isEqualTo(project.getId());
+        assertThat(paired.getProjectName()).isEqualTo("Task Projection Project");
+        assertThat(paired.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    public void projectTasksAreBuiltFromThreeStatementsWithoutEntities() {
+        statistics.clear();
+
+        List<TaskResponse> tasks = taskService.getTasksByProjectId(project.getId());
+
+        // task rows + assignee rows + assignee research areas
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3L);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(tasks).extracting(TaskResponse::getId)
+                .containsExactlyInAnyOrder(pairedTask.getId(), soloTask.getId(), unassignedTask.getId());
+
+        TaskResponse paired = find(tasks, pairedTask);
+        assertThat(paired.getName()).isEqualTo("Paired task");
+        assertThat(paired.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(paired.getDueDate()).isEqualTo(DUE_DATE);
+        assertThat(paired.getEstimatedHours()).isEqualTo(8);
+        assertThat(paired.getProjectId()).isEqualTo(project.getId());
+        assertThat(paired.getProjectName()).isEqualTo("Task Projection Project");
+        assertThat(paired.getAssignees()).extracting(ResearcherResponse::getId)
+                .containsExactlyInAnyOrder(lead.getId(), member.getId());
+
+        ResearcherResponse leadResponse = paired.getAssignees().stream()
+                .filter(r -> r.getId().equals(lead.getId())).findFirst().orElseThrow();
+        assertThat(leadResponse.getName()).isEqualTo("Task Lead");
+        assertThat(leadResponse.getGrade()).isEqualTo(Grade.SENIOR);
+        assertThat(leadResponse.getEmail()).isEqualTo(lead.getEmail());
+        assertThat(leadResponse.getStatus()).isEqualTo(ResearcherStatus.ACTIVE);
+        assertThat(leadResponse.getResearchAreas()).containsExactlyInAnyOrder("Medical_AI", "LLM");
+
+        assertThat(find(tasks, soloTask).getAssignees()).extracting(ResearcherResponse::getResearchAreas)
+                .containsExactly(List.of("Segmentation"));
+        assertThat(find(tasks, unassignedTask).getAssignees()).isEmpty();
+    }
+
+    @Test
+    public void researcherTasksContainOnlyAssignedTasksWithAllAssignees() {
+        statistics.clear();
+
+        List<TaskResponse> tasks = taskService.getTasksByResearcherId(lead.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3L);
+        assertThat(tasks).extracting(TaskResponse::getId).containsExactly(pairedTask.getId());
+        // Co-assignees are listed too, not only the researcher that was filtered on
+        assertThat(tasks.get(0).getAssignees()).extracting(ResearcherResponse::getId)
+                .containsExactlyInAnyOrder(lead.getId(), member.getId());
+    }
+
+    @Test
+    public void allTasksCostThreeStatementsRegardlessOfCount() {
+        for (int i = 0; i < 5; i++) {
+            saveTask("Extra task " + i, TaskStatus.TODO, Priority.LOW, List.of(lead));
+        }
+        statistics.clear();
+
+        List<TaskResponse> tasks = taskService.getAllTasks();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3L);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(tasks.size()).isGreaterThanOrEqualTo(8);
+    }
+
+    private TaskResponse find(List<TaskResponse> tasks, Task task) {
+        return tasks.stream().filter(t -> t.getId().equals(task.getId())).findFirst().orElseThrow();
+    }
+
+    private Task saveTask(String name, TaskStatus status, Priority priority, List<Researcher> assignees) {
+        return taskRepository.save(Task.builder()
+                .name(name)
+                .description(name + " description")
+                .status(status)
+                .priority(priority)
+                .dueDate(DUE_DATE)
+                .estimatedHours(8)
+                .project(project)
+                .assignees(new ArrayList<>(assignees))
+                .build());
+    }
+
+    private Researcher saveResearcher(String name, Grade grade, List<String> researchAreas) {
+        String suffix = String.valueOf(System.nanoTime());
+        return researcherRepository.save(Researcher.builder()
+                .name(name)
+                .studentId("TS-" + suffix)
+                .grade(grade)
+                .email("ts" + suffix + "@lab.test")
+                .status(ResearcherStatus.ACTIVE)
+                .joinDate(LocalDate.now())
+                .researchAreas(new ArrayList<>(researchAreas))
+                .build());
+    }
+}
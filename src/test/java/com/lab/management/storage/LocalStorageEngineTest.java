@@ -0,0 +1,108 @@
+package com.lab.management.storage;
+
+import com.lab.management.exception.InvalidUploadException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LocalStorageEngineTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private LocalStorageEngine engine;
+
+    @AfterEach
+    public void tearDown() {
+        if (engine != null) {
+            engine.destroy();
+        }
+    }
+
+    private LocalStorageEngine engine(LocalStorageEngine.Durability durability) {
+        engine = new LocalStorageEngine(uploadDir.toString(), durability, DataSize.ofBytes(4));
+        return engine;
+    }
+
+    @ParameterizedTest
+    @EnumSource(LocalStorageEngine.Durability.class)
+    public void stagedBytesAreHashedCountedAndPublishedAtomically(LocalStorageEngine.Durability durability) throws Exception {
+        byte[] data = "content-addressed bytes".getBytes(StandardCharsets.UTF_8);
+        LocalStorageEngine engine = engine(durability);
+
+        StagedBlob blob = engine.stage(new ByteArrayInputStream(data), data.length);
+        assertThat(blob.getSize()).isEqualTo(data.length);
+        assertThat(blob.getDigest()).isEqualTo(sha256(data));
+        assertThat(UploadLayout.shardedPath(uploadDir, "stored.txt")).doesNotExist();
+
+        engine.publish(blob, "stored.txt");
+
+        assertThat(Files.readAllBytes(UploadLayout.shardedPath(uploadDir, "stored.txt"))).isEqualTo(data);
+        assertThat(blob.getPath()).doesNotExist();
+        assertThat(engine.delete("stored.txt")).isTrue();
+        assertThat(UploadLayout.shardedPath(uploadDir, "stored.txt")).doesNotExist();
+    }
+
+    @Test
+    public void sizeMismatchIsRejectedAndLeavesNoTempFile() throws Exception {
+        byte[] data = "twelve bytes".getBytes(StandardCharsets.UTF_8);
+        LocalStorageEngine engine = engine(LocalStorageEngine.Durability.FILE);
+
+        assertThatThrownBy(() -> engine.stage(new ByteArrayInputStream(data), data.length + 1))
+                .isInstanceOf(InvalidUploadException.class);
+        assertThatThrownBy(() -> engine.stage(new ByteArrayInputStream(data), data.length - 1))
+                .isInstanceOf(InvalidUploadException.class);
+
+        try (var incoming = Files.list(uploadDir.resolve(".incoming"))) {
+            assertThat(incoming).isEmpty();
+        }
+    }
+
+    @Test
+    public void concurrentPublishesShareGroupCommits() throws Exception {
+        LocalStorageEngine engine = engine(LocalStorageEngine.Durability.GROUP);
+        ExecutorService uploaders = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                String name = "file-" + i + ".bin";
+                byte[] data = name.getBytes(StandardCharsets.UTF_8);
+                results.add(uploaders.submit(() -> {
+                    engine.publish(engine.stage(new ByteArrayInputStream(data), StorageEngine.UNKNOWN_SIZE), name);
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            uploaders.shutdownNow();
+        }
+
+        for (int i = 0; i < 32; i++) {
+            assertThat(Files.readString(UploadLayout.shardedPath(uploadDir, "file-" + i + ".bin"))).isEqualTo("file-" + i + ".bin");
+        }
+    }
+
+    private static String sha256(byte[] data) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+    }
+}
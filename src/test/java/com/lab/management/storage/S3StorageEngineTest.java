@@ -0,0 +1,201 @@
+package com.lab.management.storage;
+
+import com.lab.management.controller.FileServeController;
+import com.lab.management.service.ImageDerivativeService;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs {@link S3StorageEngine} against an in-process S3 stand-in (path-style PUT/GET/DELETE/HEAD,
+ * no signature checks), the same way it would run against MinIO.
+ */
+public class S3StorageEngineTest {
+
+    private static final String BUCKET = "lab-files";
+
+    @TempDir
+    Path uploadDir;
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private S3Client s3Client;
+    private S3Presigner s3Presigner;
+    private S3StorageEngine engine;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+
+        URI endpoint = URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(AwsBasicCredentials.create("minio", "minio123"));
+        S3Configuration pathStyle = S3Configuration.builder().pathStyleAccessEnabled(true).build();
+        s3Client = S3Client.builder().endpointOverride(endpoint).region(Region.US_EAST_1)
+                .credentialsProvider(credentials).serviceConfiguration(pathStyle).build();
+        s3Presigner = S3Presigner.builder().endpointOverride(endpoint).region(Region.US_EAST_1)
+                .credentialsProvider(credentials).serviceConfiguration(pathStyle).build();
+        engine = new S3StorageEngine(s3Client, s3Presigner, uploadDir.toString(), BUCKET, "uploads/",
+                Duration.ofMinutes(10), false);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        s3Client.close();
+        s3Presigner.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void publishedObjectCarriesChecksumAndImmutableCaching() throws Exception {
+        byte[] data = "lecture slides".getBytes(StandardCharsets.UTF_8);
+        StagedBlob blob = engine.stage(new ByteArrayInputStream(data), data.length);
+
+        engine.publish(blob, "slides.pdf");
+
+        StoredObject stored = objects.get("/" + BUCKET + "/uploads/slides.pdf");
+        assertThat(stored).isNotNull();
+        assertThat(stored.body).isEqualTo(data);
+        assertThat(stored.headers.getFirst("Content-Type")).isEqualTo("application/pdf");
+        assertThat(stored.headers.getFirst("Cache-Control")).isEqualTo("max-age=31536000, public, immutable");
+        assertThat(stored.headers.getFirst("x-amz-checksum-sha256"))
+                .isEqualTo(Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(data)));
+        assertThat(blob.getPath()).doesNotExist();
+
+        assertThat(engine.delete("slides.pdf")).isTrue();
+        assertThat(objects).isEmpty();
+    }
+
+    @Test
+    public void presignedUrlDownloadsTheObject() throws Exception {
+        byte[] data = "presigned".getBytes(StandardCharsets.UTF_8);
+        engine.publish(engine.stage(new ByteArrayInputStream(data), data.length), "note.txt");
+
+        PresignedUrl presigned = engine.presign("note.txt").orElseThrow();
+
+        assertThat(presigned.getUri().getPath()).isEqualTo("/" + BUCKET + "/uploads/note.txt");
+        assertThat(presigned.getUri().getQuery()).contains("X-Amz-Signature=").contains("X-Amz-Expires=600");
+        HttpResponse<byte[]> response = HttpClient.newHttpClient()
+                .send(HttpRequest.newBuilder(presigned.getUri()).build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo(data);
+    }
+
+    @Test
+    public void fileServeControllerRedirectsToPresignedUrls() throws Exception {
+        FileServeController controller = new FileServeController(
+                new ImageDerivativeService(List.of(256), 1, 1, 1_000_000), engine);
+        ReflectionTestUtils.setField(controller, "uploadDir", uploadDir.toString());
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        MvcResult result = mockMvc.perform(get("/files/0123abcd.png"))
+                .andExpect(status().isFound())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, matchesPattern("max-age=(29\\d|300), private")))
+                .andReturn();
+
+        String location = result.getResponse().getHeader(HttpHeaders.LOCATION);
+        assertThat(location).contains("/" + BUCKET + "/uploads/0123abcd.png?").contains("X-Amz-Signature=");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        switch (exchange.getRequestMethod()) {
+            case "PUT" -> {
+                byte[] body = readBody(exchange);
+                objects.put(path, new StoredObject(body, exchange.getRequestHeaders()));
+                exchange.getResponseHeaders().add("ETag", "\"stand-in\"");
+                exchange.sendResponseHeaders(200, -1);
+            }
+            case "GET" -> {
+                StoredObject stored = objects.get(path);
+                if (stored == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                } else {
+                    exchange.sendResponseHeaders(200, stored.body.length);
+                    exchange.getResponseBody().write(stored.body);
+                }
+            }
+            case "DELETE" -> {
+                objects.remove(path);
+                exchange.sendResponseHeaders(204, -1);
+            }
+            default -> exchange.sendResponseHeaders(200, -1);
+        }
+        exchange.close();
+    }
+
+    // aws-chunked 본문(STREAMING-* 서명)은 청크 헤더를 벗겨서 저장
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        byte[] raw = exchange.getRequestBody().readAllBytes();
+        String contentSha = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        if (contentSha == null || !contentSha.startsWith("STREAMING-")) {
+            return raw;
+        }
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        InputStream in = new ByteArrayInputStream(raw);
+        while (true) {
+            String header = readLine(in);
+            int size = Integer.parseInt(header.split(";")[0].trim(), 16);
+            if (size == 0) {
+                return decoded.toByteArray();
+            }
+            decoded.write(in.readNBytes(size));
+            readLine(in);
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != -1 && c != '\n') {
+            if (c != '\r') {
+                line.append((char) c);
+            }
+        }
+        return line.toString();
+    }
+
+    private record StoredObject(byte[] body, Headers headers) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.lab.management.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UploadLayoutMigratorTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private UploadLayoutMigrator migrator;
+
+    @BeforeEach
+    public void setUp() {
+        migrator = new UploadLayoutMigrator();
+        ReflectionTestUtils.setField(migrator, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(migrator, "batchSize", 2);
+        ReflectionTestUtils.setField(migrator, "batchPause", Duration.ZERO);
+        ReflectionTestUtils.setField(migrator, "maxFilesPerSecond", 1000);
+    }
+
+    @Test
+    public void flatFilesAndDerivativesMoveIntoTheShardedLayout() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            Files.writeString(uploadDir.resolve("file-" + i + ".txt"), "file-" + i);
+        }
+        Path derivatives = Files.createDirectories(uploadDir.resolve(".derivatives"));
+        Files.writeString(derivatives.resolve("photo.w256.jpg"), "thumbnail");
+
+        assertThat(migrator.migrate()).isEqualTo(6);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(uploadDir.resolve("file-" + i + ".txt")).doesNotExist();
+            assertThat(UploadLayout.shardedPath(uploadDir, "file-" + i + ".txt")).hasContent("file-" + i);
+        }
+        assertThat(derivatives.resolve("photo.w256.jpg")).doesNotExist();
+        assertThat(UploadLayout.resolve(derivatives, "photo.w256.jpg"))
+                .isEqualTo(UploadLayout.shardedPath(derivatives, "photo.w256.jpg"));
+        assertThat(migrator.migrate()).isZero();
+    }
+
+    @Test
+    public void hiddenEntriesStayWhereTheyAre() throws Exception {
+        Path incoming = Files.createDirectories(uploadDir.resolve(".incoming"));
+        Files.writeString(incoming.resolve("upload.part"), "partial");
+        Files.writeString(uploadDir.resolve(".keep"), "");
+
+        assertThat(migrator.migrate()).isZero();
+
+        assertThat(incoming.resolve("upload.part")).exists();
+        assertThat(uploadDir.resolve(".keep")).exists();
+    }
+
+    @Test
+    public void filesAreFoundInEitherLayout() throws Exception {
+        Files.writeString(uploadDir.resolve("legacy.txt"), "legacy");
+        assertThat(UploadLayout.resolve(uploadDir, "legacy.txt")).isEqualTo(uploadDir.resolve("legacy.txt"));
+
+        migrator.migrate();
+
+        assertThat(UploadLayout.resolve(uploadDir, "legacy.txt")).isEqualTo(UploadLayout.shardedPath(uploadDir, "legacy.txt"));
+        assertThat(UploadLayout.resolve(uploadDir, "missing.txt")).isNull();
+    }
+}